@@ -0,0 +1,100 @@
+package beta.com.paginationapi.itemmanager;
+
+import beta.com.paginationapi.TestItems;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the heap retained by item managers that hold repeated display items, with and without a shared ItemInterner.
+ *
+ * Every item is created fresh, with its own name string and lore list, the way a loader that reads a catalog would create it.
+ * The retained heap is the live heap after the managers have been loaded minus the live heap just before, reported as the
+ * retainedBytes counter. Both are totals of a class histogram, which runs a full GC and counts every reachable object. Each load
+ * is kept until the end of the trial, because dropped managers are not reliably unreachable by the next measurement. The counter
+ * is summed over the measurement iterations, so divide it by the iteration count for the cost of one load of 10 managers.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ItemInternerBenchmark {
+    private static final int MANAGERS = 10;
+    private static final int ITEMS_PER_MANAGER = 10_000;
+
+    @Param({"false", "true"})
+    private boolean interned;
+
+    @Param({"100"})
+    private int distinct;
+
+    private final List<List<ItemManager>> loads = new ArrayList<>();
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Retained {
+        public long retainedBytes;
+    }
+
+    @Benchmark
+    public void load(Retained retained) {
+        long before = usedHeapAfterGc();
+        loads.add(loadManagers(interned ? new ItemInterner() : null));
+        retained.retainedBytes = usedHeapAfterGc() - before;
+    }
+
+    private List<ItemManager> loadManagers(ItemInterner interner) {
+        List<ItemManager> loaded = new ArrayList<>(MANAGERS);
+        for (int m = 0; m < MANAGERS; m++) {
+            ItemManager manager = new ItemManager(UUID.randomUUID(), interner);
+            List<ItemStack> items = new ArrayList<>(ITEMS_PER_MANAGER);
+            for (int i = 0; i < ITEMS_PER_MANAGER; i++) {
+                int kind = i % distinct;
+                items.add(TestItems.named(new String("Display item " + kind), new String("Price: " + kind * 10), new String("Click to buy")));
+            }
+            manager.addItems(items);
+            manager.getSnapshot();
+            loaded.add(manager);
+        }
+        return loaded;
+    }
+
+    @TearDown
+    public void tearDown() {
+        loads.clear();
+    }
+
+    // The class histogram of the diagnostic command MBean runs a full GC and counts every live object, so its total is the exact live heap.
+    private static long usedHeapAfterGc() {
+        try {
+            String histogram = (String) ManagementFactory.getPlatformMBeanServer().invoke(
+                    new ObjectName("com.sun.management:type=DiagnosticCommand"), "gcClassHistogram",
+                    new Object[]{new String[0]}, new String[]{String[].class.getName()});
+            String[] lines = histogram.trim().split("\\n");
+            String[] total = lines[lines.length - 1].trim().split("\\s+");
+            return Long.parseLong(total[2]);
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not read the class histogram", e);
+        }
+    }
+}
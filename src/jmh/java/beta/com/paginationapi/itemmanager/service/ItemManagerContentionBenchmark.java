@@ -0,0 +1,89 @@
+package beta.com.paginationapi.itemmanager.service;
+
+import beta.com.paginationapi.itemmanager.ItemHandle;
+import beta.com.paginationapi.itemmanager.ItemSnapshot;
+import beta.com.paginationapi.itemmanager.service.impl.SyncItemManagerServiceImpl;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of item manager operations when several threads use the service at once, with the per-manager locks
+ * of the service against one service-wide monitor, which is how every method used to be synchronized.
+ *
+ * Writers add and remove an item on a manager of their own; readers take snapshots of one shared manager that is never written.
+ * Run it with increasing thread counts to see how throughput scales, for example:
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="ItemManagerContentionBenchmark -t 4"
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ItemManagerContentionBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Service {
+        private final SyncItemManagerService items = new SyncItemManagerServiceImpl();
+        private final Object globalMonitor = new Object();
+        private final UUID sharedManager = UUID.randomUUID();
+
+        @Setup
+        public void setUp() {
+            items.createItemManager(sharedManager);
+            for (int i = 0; i < 1000; i++) {
+                items.addItem(sharedManager, new ItemStack(Material.STONE, i % 64 + 1));
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Writer {
+        private final UUID managerId = UUID.randomUUID();
+        private final ItemStack item = new ItemStack(Material.DIAMOND);
+
+        @Setup
+        public void setUp(Service service) {
+            service.items.createItemManager(managerId);
+        }
+    }
+
+    @Benchmark
+    public boolean writeOwnManager(Service service, Writer writer) {
+        ItemHandle handle = service.items.addItem(writer.managerId, writer.item);
+        return service.items.removeItem(writer.managerId, handle);
+    }
+
+    @Benchmark
+    public boolean writeOwnManagerGlobalMonitor(Service service, Writer writer) {
+        synchronized (service.globalMonitor) {
+            ItemHandle handle = service.items.addItem(writer.managerId, writer.item);
+            return service.items.removeItem(writer.managerId, handle);
+        }
+    }
+
+    @Benchmark
+    public ItemSnapshot readSharedManager(Service service) {
+        return service.items.getSnapshot(service.sharedManager);
+    }
+
+    @Benchmark
+    public ItemSnapshot readSharedManagerGlobalMonitor(Service service) {
+        synchronized (service.globalMonitor) {
+            return service.items.getSnapshot(service.sharedManager);
+        }
+    }
+}
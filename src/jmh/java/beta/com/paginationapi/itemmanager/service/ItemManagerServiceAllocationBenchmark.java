@@ -0,0 +1,76 @@
+package beta.com.paginationapi.itemmanager.service;
+
+import beta.com.paginationapi.itemmanager.ItemHandle;
+import beta.com.paginationapi.itemmanager.ItemSnapshot;
+import beta.com.paginationapi.itemmanager.service.impl.ItemManagerServiceImpl;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the time and allocation of the synchronous service returned by sync with the CompletableFuture methods of
+ * ItemManagerService, for reads and for an add followed by a remove. Run it with -prof gc to see the bytes allocated per operation.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ItemManagerServiceAllocationBenchmark {
+
+    private ItemManagerService service;
+    private UUID managerId;
+    private ItemStack item;
+
+    @Setup
+    public void setUp() {
+        service = new ItemManagerServiceImpl();
+        managerId = UUID.randomUUID();
+        item = new ItemStack(Material.DIAMOND);
+        service.sync().createItemManager(managerId);
+        for (int i = 0; i < 1000; i++) {
+            service.sync().addItem(managerId, new ItemStack(Material.STONE, i % 64 + 1));
+        }
+    }
+
+    @Benchmark
+    public ItemSnapshot syncSnapshot() {
+        return service.sync().getSnapshot(managerId);
+    }
+
+    @Benchmark
+    public ItemSnapshot asyncSnapshot() {
+        return service.getSnapshot(managerId).join();
+    }
+
+    @Benchmark
+    public int itemCount() {
+        return service.getItemCount(managerId);
+    }
+
+    @Benchmark
+    public boolean syncAddAndRemove() {
+        ItemHandle handle = service.sync().addItem(managerId, item);
+        return service.sync().removeItem(managerId, handle);
+    }
+
+    @Benchmark
+    public boolean asyncAddAndRemove() {
+        ItemHandle handle = service.addItem(managerId, item).join();
+        return service.removeItem(managerId, handle).join();
+    }
+}
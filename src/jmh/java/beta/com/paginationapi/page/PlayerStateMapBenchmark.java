@@ -0,0 +1,124 @@
+package beta.com.paginationapi.page;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the heap held by the page and active state of 10k players, in a PlayerStateMap and in the pair of
+ * HashMap<UUID, Integer> and HashMap<UUID, Boolean> that Pagination used before.
+ *
+ * The player UUIDs are created before the first measurement and stay alive throughout, since the server holds them anyway,
+ * so retainedBytes counts only what the state itself costs: the live heap after the state has been filled in, minus the live
+ * heap just before. Both are totals of a class histogram, which runs a full GC and counts every reachable object. Each filled
+ * state is kept until the end of the trial, because a dropped state is not reliably unreachable by the next measurement and
+ * would be subtracted from the wrong iteration. retainedBytes is summed over the measurement iterations, so divide it by
+ * the iteration count for the cost of one set of 10k players.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms512m", "-Xmx512m"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class PlayerStateMapBenchmark {
+
+    @Param({"10000"})
+    private int players;
+
+    private UUID[] playerIds;
+    private int[] pages;
+    private final List<Object> states = new ArrayList<>();
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Retained {
+        public long retainedBytes;
+    }
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        playerIds = new UUID[players];
+        pages = new int[players];
+        for (int i = 0; i < players; i++) {
+            playerIds[i] = new UUID(random.nextLong(), random.nextLong());
+            // Pages above the Integer cache, as on a large catalog, so every boxed page is its own object.
+            pages[i] = 128 + random.nextInt(1000);
+        }
+    }
+
+    @Benchmark
+    public void playerStateMap(Retained retained) {
+        long before = usedHeapAfterGc();
+        states.add(fillPlayerStateMap());
+        retained.retainedBytes = usedHeapAfterGc() - before;
+    }
+
+    @Benchmark
+    public void hashMaps(Retained retained) {
+        long before = usedHeapAfterGc();
+        states.add(fillHashMaps());
+        retained.retainedBytes = usedHeapAfterGc() - before;
+    }
+
+    private PlayerStateMap fillPlayerStateMap() {
+        PlayerStateMap states = new PlayerStateMap();
+        for (int i = 0; i < players; i++) {
+            states.setPage(playerIds[i], pages[i]);
+            states.setActive(playerIds[i], true);
+        }
+        return states;
+    }
+
+    private Object[] fillHashMaps() {
+        Map<UUID, Integer> playerPages = new HashMap<>();
+        Map<UUID, Boolean> activeStatus = new HashMap<>();
+        for (int i = 0; i < players; i++) {
+            playerPages.put(playerIds[i], pages[i]);
+            activeStatus.put(playerIds[i], true);
+        }
+        return new Object[]{playerPages, activeStatus};
+    }
+
+    @TearDown
+    public void tearDown() {
+        states.clear();
+    }
+
+
+    // The class histogram of the diagnostic command MBean runs a full GC and counts every live object, so its total is the exact live heap.
+    private static long usedHeapAfterGc() {
+        try {
+            String histogram = (String) ManagementFactory.getPlatformMBeanServer().invoke(
+                    new ObjectName("com.sun.management:type=DiagnosticCommand"), "gcClassHistogram",
+                    new Object[]{new String[0]}, new String[]{String[].class.getName()});
+            String[] lines = histogram.trim().split("\\n");
+            String[] total = lines[lines.length - 1].trim().split("\\s+");
+            return Long.parseLong(total[2]);
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not read the class histogram", e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package beta.com.paginationapi.page.service;
+
+import beta.com.paginationapi.itemmanager.service.ItemManagerService;
+import beta.com.paginationapi.itemmanager.service.impl.ItemManagerServiceImpl;
+import beta.com.paginationapi.page.service.impl.PaginationServiceImpl;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throwing navigation methods of PaginationService with their try variants, for a player without an active menu
+ * and for a player who is already on the last page of a menu.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PaginationServiceBenchmark {
+
+    private PaginationService service;
+    private UUID withoutMenu;
+    private UUID onLastPage;
+
+    @Setup
+    public void setUp() {
+        ItemManagerService items = new ItemManagerServiceImpl();
+        UUID managerId = UUID.randomUUID();
+        UUID menuId = UUID.randomUUID();
+        items.sync().createItemManager(managerId);
+        for (int i = 0; i < 45; i++) {
+            items.sync().addItem(managerId, new ItemStack(Material.STONE, i + 1));
+        }
+        service = new PaginationServiceImpl(items);
+        service.createMenu(45, items, menuId, managerId);
+        withoutMenu = UUID.randomUUID();
+        onLastPage = UUID.randomUUID();
+        service.setActiveMenu(onLastPage, menuId);
+    }
+
+    @Benchmark
+    public boolean throwingNextPageWithoutMenu() {
+        try {
+            service.nextPage(withoutMenu);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public PaginationStatus tryNextPageWithoutMenu() {
+        return service.tryNextPage(withoutMenu);
+    }
+
+    @Benchmark
+    public boolean checkedNextPageOnLastPage() {
+        if (service.hasNextPage(onLastPage)) {
+            service.nextPage(onLastPage);
+            return true;
+        }
+        return false;
+    }
+
+    @Benchmark
+    public PaginationStatus tryNextPageOnLastPage() {
+        return service.tryNextPage(onLastPage);
+    }
+}
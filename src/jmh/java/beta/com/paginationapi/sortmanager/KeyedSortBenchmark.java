@@ -0,0 +1,68 @@
+package beta.com.paginationapi.sortmanager;
+
+import beta.com.paginationapi.TestItems;
+import org.bukkit.ChatColor;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares sorting by comparators that read the display name on every comparison with sorting by SortKeys that read it once per item.
+ * Run with -prof gc to see the garbage per sort next to the time.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class KeyedSortBenchmark {
+    private static final ChatColor[] COLORS = ChatColor.values();
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private final SortFilter<ItemStack> sortFilter = new SortFilter<>();
+    private final Comparator<ItemStack> byName = Comparator.comparing(item -> ChatColor.stripColor(item.getItemMeta().getDisplayName()));
+    private final Comparator<ItemStack> byAmountDescending = Comparator.comparingInt(ItemStack::getAmount).reversed();
+    private final SortKey<ItemStack> byNameKey = SortKey.of(item -> ChatColor.stripColor(item.getItemMeta().getDisplayName()));
+    private final SortKey<ItemStack> byAmountDescendingKey = SortKey.of(ItemStack::getAmount).reversed();
+    private List<ItemStack> items;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ItemStack item = TestItems.named(COLORS[random.nextInt(COLORS.length)] + "Item " + random.nextInt(size / 4 + 1));
+            item.setAmount(1 + random.nextInt(64));
+            items.add(item);
+        }
+    }
+
+    @Benchmark
+    public List<ItemStack> comparators() {
+        return sortFilter.sort(items, byName, byAmountDescending);
+    }
+
+    @Benchmark
+    public List<ItemStack> sortKeys() {
+        return sortFilter.sortByKeys(items, byNameKey, byAmountDescendingKey);
+    }
+}
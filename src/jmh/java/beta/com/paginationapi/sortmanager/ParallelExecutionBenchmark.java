@@ -0,0 +1,74 @@
+package beta.com.paginationapi.sortmanager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the same filter-and-sort through a sequential SortFilter and through one whose ParallelExecution runs every list in parallel,
+ * at increasing list sizes, to find the size at which the parallel pipeline starts to pay off on a given machine.
+ * That size is what ParallelExecution's threshold should be set to.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParallelExecutionBenchmark {
+    private static final Comparator<int[]> BY_PRICE_THEN_AMOUNT = Comparator.<int[]>comparingInt(entry -> entry[0]).thenComparingInt(entry -> entry[1]);
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"4"})
+    private int parallelism;
+
+    private List<int[]> entries;
+    private ParallelExecution parallelExecution;
+    private SortFilter<int[]> sequential;
+    private SortFilter<int[]> parallel;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(new int[]{random.nextInt(100_000), random.nextInt(64)});
+        }
+        parallelExecution = new ParallelExecution(1, parallelism);
+        sequential = new SortFilter<>();
+        parallel = new SortFilter<>(parallelExecution);
+    }
+
+    @TearDown
+    public void tearDown() {
+        parallelExecution.shutdown();
+    }
+
+    @Benchmark
+    public List<int[]> sequentialFilterAndSort() {
+        return sequential.filterAndSort(entries, entry -> entry[1] > 8, BY_PRICE_THEN_AMOUNT);
+    }
+
+    @Benchmark
+    public List<int[]> parallelFilterAndSort() {
+        return parallel.filterAndSort(entries, entry -> entry[1] > 8, BY_PRICE_THEN_AMOUNT);
+    }
+}
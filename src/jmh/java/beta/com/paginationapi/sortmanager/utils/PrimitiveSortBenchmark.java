@@ -0,0 +1,103 @@
+package beta.com.paginationapi.sortmanager.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the radix sort of PrimitiveSort with the items.stream().sorted(comparator) pipeline it replaces,
+ * for int, long and double keys.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PrimitiveSortBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    private List<Listing> listings;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        listings = new ArrayList<>(size);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < size; i++) {
+            listings.add(new Listing(random.nextInt(1_000_000), now - random.nextInt(30 * 24 * 3600) * 1000L, random.nextDouble() * 10_000));
+        }
+    }
+
+    @Benchmark
+    public List<Listing> streamByInt() {
+        return listings.stream().sorted(Comparator.comparingInt(Listing::getAmount)).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Listing> radixByInt() {
+        return PrimitiveSort.sortByInt(listings, Listing::getAmount, false);
+    }
+
+    @Benchmark
+    public List<Listing> streamByLong() {
+        return listings.stream().sorted(Comparator.comparingLong(Listing::getCreatedAt)).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Listing> radixByLong() {
+        return PrimitiveSort.sortByLong(listings, Listing::getCreatedAt, false);
+    }
+
+    @Benchmark
+    public List<Listing> streamByDouble() {
+        return listings.stream().sorted(Comparator.comparingDouble(Listing::getPrice)).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Listing> radixByDouble() {
+        return PrimitiveSort.sortByDouble(listings, Listing::getPrice, false);
+    }
+
+    public static final class Listing {
+        private final int amount;
+        private final long createdAt;
+        private final double price;
+
+        private Listing(int amount, long createdAt, double price) {
+            this.amount = amount;
+            this.createdAt = createdAt;
+            this.price = price;
+        }
+
+        public int getAmount() {
+            return amount;
+        }
+
+        public long getCreatedAt() {
+            return createdAt;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+    }
+}
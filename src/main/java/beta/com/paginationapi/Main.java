@@ -1,5 +1,7 @@
 package beta.com.paginationapi;
 
+import beta.com.paginationapi.errorevents.ExceptionLogSink;
+import beta.com.paginationapi.search.SearchExecutor;
 import org.bukkit.plugin.java.JavaPlugin;
 
 public final class Main extends JavaPlugin {
@@ -13,5 +15,7 @@ public final class Main extends JavaPlugin {
     @Override
     public void onDisable() {
         // Plugin shutdown logic
+        SearchExecutor.shutdownInstance();
+        ExceptionLogSink.getInstance().shutdown();
     }
 }
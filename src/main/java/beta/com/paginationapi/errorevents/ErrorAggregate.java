@@ -0,0 +1,86 @@
+package beta.com.paginationapi.errorevents;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The ErrorAggregate class counts the occurrences of one kind of error event, identified by class, method, exception type and message.
+ *
+ * It keeps the total count since the event was first seen and the count within the current ErrorAggregator window,
+ * together with the time of the first and the most recent occurrence. Counters are updated without locking and can be read at any time.
+ *
+ * An aggregate that stayed idle for a whole window is retired by the ErrorAggregator before it is removed. record refuses a retired
+ * aggregate, so an occurrence can never be counted on an aggregate that is no longer tracked and then missing from every summary.
+ */
+
+public class ErrorAggregate {
+    private static final long RETIRED = -1;
+
+    private final String className;
+    private final String methodName;
+    private final String exceptionType;
+    private final String message;
+    private final long firstSeen;
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong windowCount = new AtomicLong();
+    private volatile long lastSeen;
+
+    ErrorAggregate(String className, String methodName, String exceptionType, String message, long now) {
+        this.className = className;
+        this.methodName = methodName;
+        this.exceptionType = exceptionType;
+        this.message = message;
+        this.firstSeen = now;
+        this.lastSeen = now;
+    }
+
+    boolean record(long now) {
+        long count;
+        do {
+            count = windowCount.get();
+            if (count == RETIRED) return false;
+        } while (!windowCount.compareAndSet(count, count + 1));
+        totalCount.incrementAndGet();
+        lastSeen = now;
+        return true;
+    }
+
+    long drainWindowCount() {
+        return windowCount.getAndSet(0);
+    }
+
+    boolean retireIfIdle() {
+        return windowCount.compareAndSet(0, RETIRED);
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public String getExceptionType() {
+        return exceptionType;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    public long getWindowCount() {
+        return Math.max(0, windowCount.get());
+    }
+
+    public long getFirstSeen() {
+        return firstSeen;
+    }
+
+    public long getLastSeen() {
+        return lastSeen;
+    }
+}
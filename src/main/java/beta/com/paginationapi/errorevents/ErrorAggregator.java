@@ -0,0 +1,164 @@
+package beta.com.paginationapi.errorevents;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The ErrorAggregator class folds identical error events into counters so that a repeating error costs a counter increment instead of a log entry.
+ *
+ * Two events are identical when they share the class, method, exception type and message. The first occurrence of an event is reported
+ * as new by record, and only then does HandleExceptions print it and write its full stack trace. Every later occurrence is only counted.
+ * Once per window the ExceptionLogSink drains the counters and writes one summary line per event that occurred in that window,
+ * with its count for the window and its total count.
+ *
+ * An event that did not occur during a whole window is dropped when the window is drained, so only recently active events are tracked,
+ * and an error that comes back after such a pause is reported as new again, with its stack trace. This keeps the table small even though
+ * messages often contain IDs, which make every occurrence a distinct event.
+ *
+ * The number of distinct events that are tracked within a window is still bounded. Events beyond the bound are counted together as overflow,
+ * so memory stays flat during a burst of distinct errors. The first overflowing event of every window is still reported as new,
+ * so a brand-new failure is never hidden for longer than one window. The aggregates can be queried in-process at any time,
+ * for example from a debug command.
+ *
+ * Usage:
+ * ErrorAggregator aggregator = ExceptionLogSink.getInstance().getAggregator();
+ * for (ErrorAggregate aggregate : aggregator.getAggregates()) {
+ *     System.out.println(aggregate.getExceptionType() + " x" + aggregate.getTotalCount());
+ * }
+ */
+
+public class ErrorAggregator {
+    public static final long DEFAULT_WINDOW_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    public static final int DEFAULT_MAX_EVENTS = 1024;
+
+    private final ConcurrentMap<Key, ErrorAggregate> aggregates = new ConcurrentHashMap<>();
+    private final AtomicLong overflowTotal = new AtomicLong();
+    private final AtomicLong overflowWindow = new AtomicLong();
+    private final AtomicBoolean overflowReported = new AtomicBoolean();
+    private final long windowMillis;
+    private final int maxEvents;
+    private volatile long windowStart = System.currentTimeMillis();
+
+    public ErrorAggregator() {
+        this(DEFAULT_WINDOW_MILLIS, DEFAULT_MAX_EVENTS);
+    }
+
+    public ErrorAggregator(long windowMillis, int maxEvents) {
+        if (windowMillis <= 0 || maxEvents <= 0) {
+            throw new IllegalArgumentException("Window length and maximum event count must be greater than 0");
+        }
+        this.windowMillis = windowMillis;
+        this.maxEvents = maxEvents;
+    }
+
+    public boolean record(String className, String methodName, Exception exception) {
+        long now = System.currentTimeMillis();
+        Key key = new Key(className, methodName, exception.getClass().getName(), exception.getMessage());
+        while (true) {
+            ErrorAggregate aggregate = aggregates.get(key);
+            boolean first = false;
+            if (aggregate == null) {
+                if (aggregates.size() >= maxEvents) {
+                    overflowTotal.incrementAndGet();
+                    overflowWindow.incrementAndGet();
+                    return overflowReported.compareAndSet(false, true);
+                }
+                ErrorAggregate created = new ErrorAggregate(className, methodName, key.exceptionType, key.message, now);
+                aggregate = aggregates.putIfAbsent(key, created);
+                if (aggregate == null) {
+                    aggregate = created;
+                    first = true;
+                }
+            }
+            if (aggregate.record(now)) return first;
+            // drainWindow retired the aggregate as idle after it was looked up; it is on its way out of the table, so track a new one.
+            aggregates.remove(key, aggregate);
+        }
+    }
+
+    public List<ErrorAggregate> getAggregates() {
+        return Collections.unmodifiableList(new ArrayList<>(aggregates.values()));
+    }
+
+    public long getCount(String className, String methodName, Class<? extends Exception> exceptionType, String message) {
+        ErrorAggregate aggregate = aggregates.get(new Key(className, methodName, exceptionType.getName(), message));
+        return aggregate == null ? 0 : aggregate.getTotalCount();
+    }
+
+    public long getOverflowCount() {
+        return overflowTotal.get();
+    }
+
+    public long getWindowMillis() {
+        return windowMillis;
+    }
+
+    public void reset() {
+        aggregates.clear();
+        overflowTotal.set(0);
+        overflowWindow.set(0);
+        overflowReported.set(false);
+    }
+
+    synchronized List<String> drainWindow(long now) {
+        if (now - windowStart < windowMillis) return Collections.emptyList();
+        windowStart = now;
+
+        List<String> summaries = new ArrayList<>();
+        for (Map.Entry<Key, ErrorAggregate> entry : aggregates.entrySet()) {
+            ErrorAggregate aggregate = entry.getValue();
+            long count = aggregate.drainWindowCount();
+            if (count == 0 && aggregate.retireIfIdle()) {
+                aggregates.remove(entry.getKey(), aggregate);
+            } else if (count > 0) {
+                summaries.add(String.format("%dx %s in %s.%s: %s (total %d)", count, aggregate.getExceptionType(),
+                        aggregate.getClassName(), aggregate.getMethodName(), aggregate.getMessage(), aggregate.getTotalCount()));
+            }
+        }
+        long overflow = overflowWindow.getAndSet(0);
+        overflowReported.set(false);
+        if (overflow > 0) {
+            summaries.add(String.format("%dx other exception(s) not tracked individually (total %d)", overflow, overflowTotal.get()));
+        }
+        return summaries;
+    }
+
+    private static final class Key {
+        private final String className;
+        private final String methodName;
+        private final String exceptionType;
+        private final String message;
+
+        private Key(String className, String methodName, String exceptionType, String message) {
+            this.className = className;
+            this.methodName = methodName;
+            this.exceptionType = exceptionType;
+            this.message = message;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return Objects.equals(className, key.className) && Objects.equals(methodName, key.methodName)
+                    && exceptionType.equals(key.exceptionType) && Objects.equals(message, key.message);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hashCode(className);
+            result = 31 * result + Objects.hashCode(methodName);
+            result = 31 * result + exceptionType.hashCode();
+            return 31 * result + Objects.hashCode(message);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package beta.com.paginationapi.errorevents;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The ExceptionLogSink class is the single place where exception reports are written to disk.
+ *
+ * Callers never touch the file themselves. submit only places the event on a bounded, lock-free queue and returns at once,
+ * so logging costs the calling thread, often the server main thread, no I/O at all. A background daemon thread drains the queue
+ * in batches, writes each batch through one writer that stays open, and flushes once per batch.
+ *
+ * When the queue is full, new events are dropped and counted instead of blocking the caller; the number of dropped events
+ * is written to the log with the next batch. When the log file grows beyond the configured size it is rotated:
+ * exceptions.log becomes exceptions.log.1, exceptions.log.1 becomes exceptions.log.2 and so on, up to the configured number of files.
+ *
+ * The sink also owns the ErrorAggregator that deduplicates repeating errors. Once per aggregation window the background thread
+ * drains the aggregator and writes one summary line per distinct error with its count for that window.
+ *
+ * The log directory is created once, when the shared sink is first used, under "Documents/PaginationAPI_Logs" in the user's home directory.
+ *
+ * Usage:
+ * ExceptionLogSink.getInstance().submit(timestamp, "ItemManagerServiceImpl", "getItems", exception);
+ * ExceptionLogSink.getInstance().shutdown(); // on plugin disable, writes what is still queued
+ */
+
+public class ExceptionLogSink {
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    public static final long DEFAULT_MAX_FILE_BYTES = 10L * 1024 * 1024;
+    public static final int DEFAULT_MAX_FILES = 5;
+
+    private static final int BATCH_SIZE = 128;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Queue<LogEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final int capacity;
+    private final Path logFile;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final ErrorAggregator aggregator;
+    private final Thread worker;
+    private volatile boolean running = true;
+    private long reportedDrops;
+    private BufferedWriter writer;
+
+    public ExceptionLogSink(Path logFile, int capacity, long maxFileBytes, int maxFiles) {
+        this(logFile, capacity, maxFileBytes, maxFiles, new ErrorAggregator());
+    }
+
+    public ExceptionLogSink(Path logFile, int capacity, long maxFileBytes, int maxFiles, ErrorAggregator aggregator) {
+        if (capacity <= 0 || maxFileBytes <= 0 || maxFiles <= 0) {
+            throw new IllegalArgumentException("Capacity, maximum file size and maximum file count must be greater than 0");
+        }
+        this.logFile = logFile;
+        this.capacity = capacity;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = maxFiles;
+        this.aggregator = aggregator;
+        this.worker = new Thread(this::run, "PaginationAPI-ExceptionLog");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    public static ExceptionLogSink getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public boolean submit(String timestamp, String className, String methodName, Exception exception) {
+        if (!running) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        if (queued.incrementAndGet() > capacity) {
+            queued.decrementAndGet();
+            dropped.incrementAndGet();
+            return false;
+        }
+        LogEvent event = new LogEvent(timestamp, className, methodName, exception);
+        queue.offer(event);
+        // shutdown may have run since the check above, and the worker may already have seen an empty queue and exited.
+        // Taking the event back is then the only way it gets counted; if it is already gone, the worker polled it and writes it.
+        if (!running && queue.remove(event)) {
+            queued.decrementAndGet();
+            dropped.incrementAndGet();
+            return false;
+        }
+        LockSupport.unpark(worker);
+        return true;
+    }
+
+    public ErrorAggregator getAggregator() {
+        return aggregator;
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    public Path getLogFile() {
+        return logFile;
+    }
+
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        List<LogEvent> batch = new ArrayList<>(BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            LogEvent event;
+            while (batch.size() < BATCH_SIZE && (event = queue.poll()) != null) {
+                queued.decrementAndGet();
+                batch.add(event);
+            }
+            List<String> summaries = aggregator.drainWindow(System.currentTimeMillis());
+            if (batch.isEmpty() && summaries.isEmpty() && dropped.get() == reportedDrops) {
+                if (running) LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                continue;
+            }
+            writeBatch(batch, summaries);
+            batch.clear();
+        }
+        writeBatch(batch, aggregator.drainWindow(Long.MAX_VALUE));
+        closeWriter();
+    }
+
+    private void writeBatch(List<LogEvent> batch, List<String> summaries) {
+        if (batch.isEmpty() && summaries.isEmpty() && dropped.get() == reportedDrops) return;
+        try {
+            BufferedWriter out = openWriter();
+            PrintWriter pw = new PrintWriter(out);
+            long drops = dropped.get();
+            if (drops != reportedDrops) {
+                pw.println("Dropped " + (drops - reportedDrops) + " exception report(s) because the log queue was full");
+                reportedDrops = drops;
+            }
+            if (!summaries.isEmpty()) {
+                String timestamp = LocalDateTime.now().format(DATE_TIME_FORMATTER);
+                for (String summary : summaries) {
+                    pw.println("[" + timestamp + "] Summary: " + summary);
+                }
+            }
+            for (LogEvent event : batch) {
+                pw.println("=====================================================");
+                pw.println("Timestamp: " + event.timestamp);
+                pw.println("Class: " + event.className);
+                pw.println("Method: " + event.methodName);
+                pw.println("Exception Message: " + event.exception.getMessage());
+                pw.println("Stack Trace:");
+                event.exception.printStackTrace(pw);
+                pw.println("=====================================================");
+            }
+            pw.flush();
+            written.addAndGet(batch.size());
+            if (Files.size(logFile) >= maxFileBytes) {
+                rotate();
+            }
+        } catch (IOException ioException) {
+            System.err.println("Failed to log exception: " + ioException.getMessage());
+            closeWriter();
+        }
+    }
+
+    private BufferedWriter openWriter() throws IOException {
+        if (writer == null) {
+            Path directory = logFile.toAbsolutePath().getParent();
+            if (directory != null && !Files.exists(directory)) {
+                Files.createDirectories(directory);
+            }
+            writer = Files.newBufferedWriter(logFile, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        return writer;
+    }
+
+    private void rotate() throws IOException {
+        closeWriter();
+        Files.deleteIfExists(rotated(maxFiles));
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            Path source = rotated(i);
+            if (Files.exists(source)) {
+                Files.move(source, rotated(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(logFile, rotated(1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Path rotated(int index) {
+        return logFile.resolveSibling(logFile.getFileName() + "." + index);
+    }
+
+    private void closeWriter() {
+        if (writer == null) return;
+        try {
+            writer.close();
+        } catch (IOException ioException) {
+            System.err.println("Failed to close exception log: " + ioException.getMessage());
+        }
+        writer = null;
+    }
+
+    private static final class LogEvent {
+        private final String timestamp;
+        private final String className;
+        private final String methodName;
+        private final Exception exception;
+
+        private LogEvent(String timestamp, String className, String methodName, Exception exception) {
+            this.timestamp = timestamp;
+            this.className = className;
+            this.methodName = methodName;
+            this.exception = exception;
+        }
+    }
+
+    private static final class Holder {
+        private static final ExceptionLogSink INSTANCE = new ExceptionLogSink(
+                Paths.get(System.getProperty("user.home"), "Documents", "PaginationAPI_Logs", "exceptions.log"),
+                DEFAULT_QUEUE_CAPACITY, DEFAULT_MAX_FILE_BYTES, DEFAULT_MAX_FILES);
+    }
+}
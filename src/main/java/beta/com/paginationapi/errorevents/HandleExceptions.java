@@ -1,11 +1,5 @@
 package beta.com.paginationapi.errorevents;
 
-import java.io.FileWriter;
-import java.io.IOException;
-import java.io.PrintWriter;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -22,7 +16,13 @@ import java.time.format.DateTimeFormatter;
  * The handle method is designed to be used in a catch block. It takes the caught exception, the name of the class where the exception occurred,
  * and the name of the method where the exception occurred as parameters. It logs the exception details to the file and then rethrows the exception as a RuntimeException.
  *
- * The logExceptionToFile method is a private utility method that writes the exception details to the log file. It is called by the handle method.
+ * Repeating errors are folded by the ErrorAggregator of the sink: only the first occurrence of a (class, method, exception type, message)
+ * combination is printed and written with its stack trace, later ones are counted and summarized once per window.
+ * A combination that stayed quiet for a whole window is forgotten, so its next occurrence is printed and written again.
+ * The exception is rethrown every time, so callers see no difference.
+ *
+ * Writing to the file is done by the shared ExceptionLogSink on its own thread, so handle never waits for disk I/O,
+ * and creating a HandleExceptions is cheap: it no longer touches the file system.
  *
  * Usage:
  * HandleExceptions handleExceptions = new HandleExceptions();
@@ -35,47 +35,26 @@ import java.time.format.DateTimeFormatter;
 
 public class HandleExceptions {
 
-    private String logFilePath;
-    private final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private final ExceptionLogSink logSink;
 
     public HandleExceptions() {
-        String userHome = System.getProperty("user.home");
-        Path defaultLogPath = Paths.get(userHome, "Documents", "PaginationAPI_Logs");
-        try {
-            if (!Files.exists(defaultLogPath)) {
-                Files.createDirectories(defaultLogPath);
-            }
-            logFilePath = defaultLogPath.resolve("exceptions.log").toString();
-        } catch (IOException e) {
-            System.err.println("Failed to create log directory: " + e.getMessage());
-        }
+        this(ExceptionLogSink.getInstance());
+    }
+
+    public HandleExceptions(ExceptionLogSink logSink) {
+        this.logSink = logSink;
     }
 
     public void handle(Exception e, String className, String methodName) {
         String timestamp = LocalDateTime.now().format(DATE_TIME_FORMATTER);
         String errorMessage = String.format("[%s] Exception in %s.%s: %s", timestamp, className, methodName, e.getMessage());
 
-        System.err.println(errorMessage);
-
-        logExceptionToFile(e, className, methodName, timestamp);
+        if (logSink.getAggregator().record(className, methodName, e)) {
+            System.err.println(errorMessage);
+            logSink.submit(timestamp, className, methodName, e);
+        }
 
         throw new RuntimeException(errorMessage, e);
     }
-
-    private void logExceptionToFile(Exception e, String className, String methodName, String timestamp) {
-        try (FileWriter fw = new FileWriter(logFilePath, true);
-             PrintWriter pw = new PrintWriter(fw)) {
-
-            pw.println("=====================================================");
-            pw.println("Timestamp: " + timestamp);
-            pw.println("Class: " + className);
-            pw.println("Method: " + methodName);
-            pw.println("Exception Message: " + e.getMessage());
-            pw.println("Stack Trace:");
-            e.printStackTrace(pw);
-            pw.println("=====================================================");
-        } catch (IOException ioException) {
-            System.err.println("Failed to log exception: " + ioException.getMessage());
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+package beta.com.paginationapi.itemmanager;
+
+import org.bukkit.inventory.ItemStack;
+
+import java.util.UUID;
+
+/**
+ * The ItemHandle class identifies one item that was added to an ItemManager.
+ *
+ * ItemManager.addItem returns a handle, and ItemManager.removeItem(handle) removes exactly that item in constant time,
+ * without comparing ItemStacks and without touching other copies of an equal item. A handle stays valid while its item is in the manager,
+ * even when other items are removed or the manager compacts its storage, and becomes invalid once its item is removed,
+ * cleared or replaced. Removing through an invalid handle does nothing.
+ *
+ * getItem returns the item as it is now; after ItemManager.editItem it returns the edited copy.
+ *
+ * Handles are only created by ItemManager. The slot they point to is maintained by the manager under its lock.
+ *
+ * Usage:
+ * ItemHandle handle = itemManager.addItem(item);
+ * ...
+ * itemManager.removeItem(handle);
+ */
+
+public final class ItemHandle {
+    final ItemManager manager;
+    volatile ItemStack item;
+    volatile int slot;
+
+    ItemHandle(ItemManager manager, ItemStack item, int slot) {
+        this.manager = manager;
+        this.item = item;
+        this.slot = slot;
+    }
+
+    public ItemStack getItem() {
+        return item;
+    }
+
+    public UUID getManagerId() {
+        return manager.getId();
+    }
+
+    public boolean isRemoved() {
+        return slot < 0;
+    }
+}
@@ -0,0 +1,92 @@
+package beta.com.paginationapi.itemmanager;
+
+import org.bukkit.inventory.ItemStack;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The ItemInterner class lets item managers share one ItemStack, and with it one ItemMeta, for all items with equal content.
+ *
+ * Shops often repeat the same display item, with the same material, name and lore, thousands of times across many managers.
+ * An ItemManager created with an interner stores the canonical instance for each item instead of the caller's copy, so every repeat
+ * costs one reference instead of a separate ItemStack with its own meta. Items are matched through ItemStack.equals and hashCode,
+ * which compare type, amount and meta.
+ *
+ * The table is reference counted: every stored item holds one reference, which is released when the item is removed, cleared or replaced,
+ * and a canonical instance is dropped from the table once nobody refers to it any more. The canonical instance is a clone taken when
+ * the content is first seen, so later changes to the caller's ItemStack cannot corrupt the table.
+ *
+ * Canonical instances are shared and must be treated as read-only. Use ItemManager.editItem to change an item: it edits a copy
+ * and interns a clone of the result, so other items with the same content are not affected.
+ *
+ * References are released by instance, not by content. An identity table maps every canonical instance to its entry, so a canonical
+ * instance that was changed in place anyway, and no longer matches its own hash, is still released and dropped instead of leaking.
+ *
+ * One interner is meant to be shared by all managers of a plugin; it is thread-safe.
+ *
+ * Usage:
+ * ItemInterner interner = new ItemInterner();
+ * SyncItemManagerService items = new SyncItemManagerServiceImpl(interner);
+ * ...
+ * int distinct = interner.size();
+ */
+
+public class ItemInterner {
+    private final Map<ItemStack, Entry> entries = new HashMap<>();
+    private final Map<ItemStack, Entry> byInstance = new IdentityHashMap<>();
+    private long references;
+    private long hits;
+
+    public synchronized ItemStack intern(ItemStack item) {
+        Entry entry = entries.get(item);
+        if (entry == null) {
+            ItemStack canonical = item.clone();
+            entry = new Entry(canonical);
+            entries.put(canonical, entry);
+            byInstance.put(canonical, entry);
+        } else {
+            hits++;
+        }
+        entry.references++;
+        references++;
+        return entry.canonical;
+    }
+
+    public synchronized void release(ItemStack item) {
+        Entry entry = byInstance.get(item);
+        if (entry == null) return;
+        references--;
+        if (--entry.references == 0) {
+            byInstance.remove(item);
+            // A canonical instance changed in place no longer hashes to its bucket, so fall back to finding its entry by identity.
+            if (entries.get(item) == entry) {
+                entries.remove(item);
+            } else {
+                entries.values().remove(entry);
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getReferences() {
+        return references;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    private static final class Entry {
+        private final ItemStack canonical;
+        private int references;
+
+        private Entry(ItemStack canonical) {
+            this.canonical = canonical;
+        }
+    }
+}
@@ -3,8 +3,15 @@ package beta.com.paginationapi.itemmanager;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
  * The ItemManager class serves as a unique container for items within the application, identified by a UUID.
@@ -13,36 +20,339 @@ import java.util.UUID;
  * The class encapsulates the concept of an item manager in the application, providing a higher level of abstraction for item management.
  * It hides the complexity of item management, such as maintaining the list of items and providing thread-safe operations, from the rest of the application.
  *
+ * Every added item gets an ItemHandle that knows the slot the item is stored in. Removing through the handle clears that slot,
+ * leaving a tombstone, so it takes constant time, never compares ItemStacks and never removes a different copy of an equal item.
+ * The order of the remaining items is unchanged. Tombstones are compacted away in one pass, which also updates the slots of the handles,
+ * when the next snapshot is built or when they outnumber the live items, so the cost of compaction is spread over the removals that caused it.
+ *
+ * Writers change the slots under a lock owned by this manager alone and bump the version. The immutable ItemSnapshot for that version is built
+ * lazily, by the first reader that asks for it, so a burst of writes costs one snapshot instead of one per write. Once built, a snapshot is
+ * shared by all readers until the next change, and readers never observe a list that is being modified.
+ * getVersion can be compared between calls to tell cheaply whether anything changed, and getItemCount is always current.
+ *
+ * addItems, removeItems and replaceItems apply a whole batch under one acquisition of the lock, bump the version once and send
+ * one notification, so loading a large catalog bumps the version once instead of once per item.
+ *
+ * A manager created with an ItemInterner stores the interner's canonical instance for each item, so equal items share one ItemStack
+ * and one ItemMeta across all managers using the same interner. Stored items are then shared and must not be changed in place:
+ * a change would show up in every manager holding that content. The interner still releases such an item when it is removed, so it does not leak.
+ * editItem is the way to change an item, with or without an interner: it edits a copy and swaps it in, so snapshots that were
+ * already handed out, and other items sharing the old instance, keep seeing the old content.
+ *
+ * Derived structures such as search indexes register an ItemManagerListener to be told about every change as it happens.
+ * Listeners see positions among the items that are present, so tombstones and compaction are invisible to them.
+ *
  * The ItemManager class is a key part of the application's item management system, working in conjunction with other classes such as ItemManagerService and ItemManagerServiceImpl.
  * It plays a crucial role in ensuring that items are managed correctly and efficiently in the application.
  */
 
 public class ItemManager {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MIN_COMPACTION_TOMBSTONES = 64;
+
     private final UUID id;
-    private final List<ItemStack> items;
+    private final ItemInterner interner;
+    private final Object lock = new Object();
+    private final List<ItemManagerListener> listeners = new CopyOnWriteArrayList<>();
+    private ItemHandle[] slots = new ItemHandle[INITIAL_CAPACITY];
+    private int used;
+    private int tombstones;
+    private int[] ranks;
+    private volatile int count;
+    private volatile long version;
+    private volatile ItemSnapshot snapshot = ItemSnapshot.EMPTY;
 
     public ItemManager(UUID id) {
+        this(id, null);
+    }
+
+    public ItemManager(UUID id, ItemInterner interner) {
         this.id = id;
-        this.items = new ArrayList<>();
+        this.interner = interner;
     }
 
     public UUID getId() {
         return id;
     }
 
-    public void addItem(ItemStack item) {
-        this.items.add(item);
+    public ItemHandle addItem(ItemStack item) {
+        synchronized (lock) {
+            ItemHandle handle = append(item);
+            changed();
+            for (ItemManagerListener listener : listeners) {
+                listener.onItemAdded(count - 1, handle.item);
+            }
+            return handle;
+        }
+    }
+
+    public boolean removeItem(ItemHandle handle) {
+        if (handle == null || handle.manager != this) return false;
+        synchronized (lock) {
+            int slot = handle.slot;
+            if (slot < 0) return false;
+            int position = listeners.isEmpty() ? -1 : livePosition(slot);
+            removeSlot(slot, position);
+            return true;
+        }
+    }
+
+    public boolean editItem(ItemHandle handle, Consumer<ItemStack> editor) {
+        if (handle == null || handle.manager != this) return false;
+        synchronized (lock) {
+            if (handle.slot < 0) return false;
+            ItemStack oldItem = handle.item;
+            ItemStack copy = oldItem.clone();
+            editor.accept(copy);
+            // The editor may keep its copy and change it later, so the interner stores a clone of its own.
+            handle.item = interner == null ? copy : interner.intern(copy);
+            release(oldItem);
+            changed();
+            if (!listeners.isEmpty()) {
+                int position = livePosition(handle.slot);
+                for (ItemManagerListener listener : listeners) {
+                    listener.onItemReplaced(position, oldItem, handle.item);
+                }
+            }
+            return true;
+        }
     }
 
     public void removeItem(ItemStack item) {
-        this.items.remove(item);
+        synchronized (lock) {
+            int position = 0;
+            for (int slot = 0; slot < used; slot++) {
+                ItemHandle handle = slots[slot];
+                if (handle == null) continue;
+                if (handle.item.equals(item)) {
+                    removeSlot(slot, position);
+                    return;
+                }
+                position++;
+            }
+        }
+    }
+
+    public List<ItemHandle> addItems(Collection<ItemStack> newItems) {
+        if (newItems.isEmpty()) return Collections.emptyList();
+        List<ItemStack> requested = new ArrayList<>(newItems);
+        synchronized (lock) {
+            int position = count;
+            List<ItemHandle> handles = new ArrayList<>(requested.size());
+            ItemStack[] added = new ItemStack[requested.size()];
+            for (int i = 0; i < added.length; i++) {
+                ItemHandle handle = append(requested.get(i));
+                handles.add(handle);
+                added[i] = handle.item;
+            }
+            changed();
+            List<ItemStack> addedItems = Collections.unmodifiableList(Arrays.asList(added));
+            for (ItemManagerListener listener : listeners) {
+                listener.onItemsAdded(position, addedItems);
+            }
+            return handles;
+        }
+    }
+
+    public int removeItems(Collection<ItemStack> oldItems) {
+        if (oldItems.isEmpty()) return 0;
+        Map<ItemStack, Integer> pending = new HashMap<>();
+        for (ItemStack item : oldItems) {
+            pending.merge(item, 1, Integer::sum);
+        }
+        synchronized (lock) {
+            int removed = 0;
+            for (int slot = 0; slot < used && !pending.isEmpty(); slot++) {
+                ItemHandle handle = slots[slot];
+                if (handle == null) continue;
+                Integer remaining = pending.get(handle.item);
+                if (remaining == null) continue;
+                // Like removeItem, each requested item removes the first equal item that is still left.
+                if (remaining == 1) pending.remove(handle.item); else pending.put(handle.item, remaining - 1);
+                slots[slot] = null;
+                handle.slot = -1;
+                release(handle.item);
+                tombstones++;
+                removed++;
+            }
+            if (removed > 0) {
+                count -= removed;
+                changed();
+                ItemSnapshot reset = materialize();
+                for (ItemManagerListener listener : listeners) {
+                    listener.onItemsReset(reset);
+                }
+            }
+            return removed;
+        }
+    }
+
+    public List<ItemHandle> replaceItems(Collection<ItemStack> newItems) {
+        List<ItemStack> replacement = new ArrayList<>(newItems);
+        synchronized (lock) {
+            detachAll();
+            List<ItemHandle> handles = new ArrayList<>(replacement.size());
+            for (ItemStack item : replacement) {
+                handles.add(append(item));
+            }
+            changed();
+            ItemSnapshot reset = materialize();
+            for (ItemManagerListener listener : listeners) {
+                listener.onItemsReset(reset);
+            }
+            return handles;
+        }
     }
 
     public void clearItems() {
-        this.items.clear();
+        synchronized (lock) {
+            if (count > 0) {
+                detachAll();
+                changed();
+                for (ItemManagerListener listener : listeners) {
+                    listener.onItemsCleared();
+                }
+            }
+        }
     }
 
     public List<ItemStack> getItems() {
-        return this.items;
+        return getSnapshot().getItems();
+    }
+
+    public ItemSnapshot getSnapshot() {
+        ItemSnapshot current = this.snapshot;
+        if (current != null) return current;
+        synchronized (lock) {
+            return materialize();
+        }
+    }
+
+    public int getItemCount() {
+        return this.count;
+    }
+
+    public long getVersion() {
+        return this.version;
+    }
+
+    public ItemSnapshot addListener(ItemManagerListener listener) {
+        synchronized (lock) {
+            listeners.add(listener);
+            return materialize();
+        }
+    }
+
+    public void removeListener(ItemManagerListener listener) {
+        listeners.remove(listener);
+    }
+
+    private ItemHandle append(ItemStack item) {
+        if (used == slots.length) {
+            if (tombstones > used / 4) {
+                compact();
+            } else {
+                slots = Arrays.copyOf(slots, slots.length * 2);
+                ranks = null;
+            }
+        }
+        ItemHandle handle = new ItemHandle(this, interner == null ? item : interner.intern(item), used);
+        slots[used] = handle;
+        if (ranks != null) updateRank(used, 1);
+        used++;
+        count++;
+        return handle;
+    }
+
+    private void removeSlot(int slot, int position) {
+        ItemHandle handle = slots[slot];
+        slots[slot] = null;
+        handle.slot = -1;
+        release(handle.item);
+        if (ranks != null) updateRank(slot, -1);
+        tombstones++;
+        count--;
+        changed();
+        for (ItemManagerListener listener : listeners) {
+            listener.onItemRemoved(position, handle.item);
+        }
+        if (tombstones >= MIN_COMPACTION_TOMBSTONES && tombstones > count) {
+            compact();
+        }
+    }
+
+    private void detachAll() {
+        for (int slot = 0; slot < used; slot++) {
+            if (slots[slot] != null) {
+                slots[slot].slot = -1;
+                release(slots[slot].item);
+            }
+        }
+        Arrays.fill(slots, 0, used, null);
+        used = 0;
+        count = 0;
+        tombstones = 0;
+        ranks = null;
+    }
+
+    private void release(ItemStack item) {
+        if (interner != null) interner.release(item);
+    }
+
+    private void compact() {
+        if (tombstones == 0) return;
+        int kept = 0;
+        for (int slot = 0; slot < used; slot++) {
+            ItemHandle handle = slots[slot];
+            if (handle != null) {
+                handle.slot = kept;
+                slots[kept++] = handle;
+            }
+        }
+        Arrays.fill(slots, kept, used, null);
+        used = kept;
+        tombstones = 0;
+        ranks = null;
+    }
+
+    private void changed() {
+        this.version++;
+        this.snapshot = null;
+    }
+
+    private ItemSnapshot materialize() {
+        ItemSnapshot current = this.snapshot;
+        if (current != null) return current;
+        compact();
+        ItemStack[] items = new ItemStack[used];
+        for (int slot = 0; slot < used; slot++) {
+            items[slot] = slots[slot].item;
+        }
+        current = new ItemSnapshot(version, items);
+        this.snapshot = current;
+        return current;
+    }
+
+    // Number of items stored before the slot, read from a Fenwick tree over the slots that is rebuilt when first needed after a compaction.
+    private int livePosition(int slot) {
+        if (ranks == null) {
+            ranks = new int[slots.length + 1];
+            for (int i = 1; i < ranks.length; i++) {
+                if (i <= used && slots[i - 1] != null) ranks[i]++;
+                int parent = i + (i & -i);
+                if (parent < ranks.length) ranks[parent] += ranks[i];
+            }
+        }
+        int position = 0;
+        for (int i = slot; i > 0; i -= i & -i) {
+            position += ranks[i];
+        }
+        return position;
+    }
+
+    private void updateRank(int slot, int delta) {
+        for (int i = slot + 1; i < ranks.length; i += i & -i) {
+            ranks[i] += delta;
+        }
     }
 }
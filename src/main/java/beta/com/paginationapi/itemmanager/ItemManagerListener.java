@@ -0,0 +1,30 @@
+package beta.com.paginationapi.itemmanager;
+
+import org.bukkit.inventory.ItemStack;
+
+import java.util.List;
+
+/**
+ * The ItemManagerListener interface is implemented by structures that are derived from the items of an ItemManager
+ * and want to follow its changes incrementally instead of rebuilding themselves from scratch.
+ *
+ * Listeners are registered with ItemManager.addListener, which returns the snapshot the listener has to start from.
+ * Every later change is reported exactly once and in order, while the manager's write lock is held,
+ * so implementations should be quick and must not call back into the same ItemManager.
+ *
+ * onItemAdded is called with the position the item was added at.
+ * onItemRemoved is called with the position the item was removed from; items after it have moved one position down.
+ * onItemsCleared is called when all items have been removed.
+ * onItemReplaced is called when ItemManager.editItem swaps the item at a position for its edited copy.
+ * onItemsAdded is called once for a batch of items appended by ItemManager.addItems, with the position of the first of them.
+ * onItemsReset is called once after a batch removal or a replacement of all items; the listener should rebuild itself from the given snapshot.
+ */
+
+public interface ItemManagerListener {
+    void onItemAdded(int position, ItemStack item);
+    void onItemRemoved(int position, ItemStack item);
+    void onItemsCleared();
+    void onItemReplaced(int position, ItemStack oldItem, ItemStack newItem);
+    void onItemsAdded(int position, List<ItemStack> items);
+    void onItemsReset(ItemSnapshot snapshot);
+}
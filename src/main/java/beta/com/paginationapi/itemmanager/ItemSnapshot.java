@@ -0,0 +1,57 @@
+package beta.com.paginationapi.itemmanager;
+
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The ItemSnapshot class is an immutable, point-in-time view of the items held by an ItemManager.
+ *
+ * Every change to an ItemManager publishes a new snapshot tagged with a version that only ever increases.
+ * A reader can hold on to a snapshot for as long as it likes, for example while it renders a page, and it will never see
+ * a ConcurrentModificationException or a half-applied change, no matter what writers do in the meantime.
+ *
+ * The version doubles as a cheap change marker: if two snapshots of the same manager carry the same version, they hold the same items.
+ *
+ * Usage:
+ * ItemSnapshot snapshot = itemManager.getSnapshot();
+ * List<ItemStack> page = snapshot.subList(start, end); // stays valid while other threads keep adding items
+ */
+
+public final class ItemSnapshot {
+    static final ItemSnapshot EMPTY = new ItemSnapshot(0L, new ItemStack[0]);
+
+    private final long version;
+    private final List<ItemStack> items;
+
+    ItemSnapshot(long version, ItemStack[] items) {
+        this.version = version;
+        this.items = Collections.unmodifiableList(Arrays.asList(items));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<ItemStack> getItems() {
+        return items;
+    }
+
+    public ItemStack get(int index) {
+        return items.get(index);
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    public List<ItemStack> subList(int fromIndex, int toIndex) {
+        return items.subList(fromIndex, toIndex);
+    }
+}
@@ -1,10 +1,14 @@
 package beta.com.paginationapi.itemmanager.service;
 
+import beta.com.paginationapi.itemmanager.ItemHandle;
 import beta.com.paginationapi.itemmanager.ItemManager;
+import beta.com.paginationapi.itemmanager.ItemSnapshot;
 import org.bukkit.inventory.ItemStack;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * The ItemManagerService interface defines the contract for managing items in the application.
@@ -16,28 +20,59 @@ import java.util.concurrent.CompletableFuture;
  *
  * The getItemManager method takes a managerId and returns a CompletableFuture that completes with the retrieved ItemManager.
  *
- * The addItem method takes a managerId and an ItemStack to be added. It returns a CompletableFuture that completes when the item has been added.
+ * The addItem method takes a managerId and an ItemStack to be added. It returns a CompletableFuture that completes with the ItemHandle of the added item.
  *
  * The removeItem method takes a managerId and an ItemStack to be removed. It returns a CompletableFuture that completes when the item has been removed.
  *
+ * The removeItem method that takes an ItemHandle, as returned by addItem, removes exactly that item in constant time.
+ * It returns a CompletableFuture that completes with whether the item was still present.
+ *
+ * The editItem method takes a managerId, an ItemHandle and an editor. The editor changes a copy of the item, which then replaces it.
+ * It returns a CompletableFuture that completes with whether the item was still present.
+ *
  * The clearItems method takes a managerId and returns a CompletableFuture that completes when all items have been cleared.
  *
+ * The addItems, removeItems and replaceItems methods take a managerId and a collection of ItemStacks and apply them as one batch:
+ * the manager's version changes once and listeners are notified once. addItems and replaceItems complete with the ItemHandles of the
+ * added items, in the order of the collection, and removeItems completes with the number of items removed.
+ *
  * The getItems method takes a managerId and returns a CompletableFuture that completes with a list of ItemStacks.
+ * The list is the item list of the manager's current snapshot, so it is read-only and is not affected by later changes.
+ *
+ * The getSnapshot method takes a managerId and returns a CompletableFuture that completes with the manager's current ItemSnapshot.
+ * The snapshot carries a version that grows with every change, which callers can compare to detect changes cheaply.
+ *
+ * The getItemCount and getPageCount methods answer without a CompletableFuture or any allocation. They read the manager's live
+ * item count, which every change updates at once, not the size of a snapshot, which is only built when one is requested.
+ * Asking how many items or pages there are is therefore O(1) and never builds a snapshot.
+ *
+ * The sync method returns the SyncItemManagerService behind this service. It performs the same operations on the same managers
+ * on the calling thread and returns results directly, which is the cheaper choice whenever the caller would block on the future anyway.
+ * Implementations may run the asynchronous methods on an Executor of their choice.
  *
  * Usage:
  * ItemManagerService itemManagerService = ... // get an instance of ItemManagerService
  * UUID managerId = ... // get a managerId
  * ItemStack item = ... // get an ItemStack
- * itemManagerService.addItem(managerId, item).thenAccept(void -> {
- *     // item has been added
+ * itemManagerService.addItem(managerId, item).thenAccept(handle -> {
+ *     // item has been added, handle removes or edits exactly this item
  * });
  */
 
 public interface ItemManagerService {
+    SyncItemManagerService sync();
     CompletableFuture<ItemManager> createItemManager(UUID managerId);
     CompletableFuture<ItemManager> getItemManager(UUID managerId);
-    CompletableFuture<Void> addItem(UUID managerId, ItemStack item);
+    CompletableFuture<ItemHandle> addItem(UUID managerId, ItemStack item);
     CompletableFuture<Void> removeItem(UUID managerId, ItemStack item);
+    CompletableFuture<Boolean> removeItem(UUID managerId, ItemHandle handle);
+    CompletableFuture<Boolean> editItem(UUID managerId, ItemHandle handle, Consumer<ItemStack> editor);
     CompletableFuture<Void> clearItems(UUID managerId);
+    CompletableFuture<List<ItemHandle>> addItems(UUID managerId, Collection<ItemStack> items);
+    CompletableFuture<Integer> removeItems(UUID managerId, Collection<ItemStack> items);
+    CompletableFuture<List<ItemHandle>> replaceItems(UUID managerId, Collection<ItemStack> items);
     CompletableFuture<List<ItemStack>> getItems(UUID managerId);
+    CompletableFuture<ItemSnapshot> getSnapshot(UUID managerId);
+    int getItemCount(UUID managerId);
+    int getPageCount(UUID managerId, int pageSize);
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package beta.com.paginationapi.itemmanager.service;
+
+import beta.com.paginationapi.itemmanager.ItemHandle;
+import beta.com.paginationapi.itemmanager.ItemManager;
+import beta.com.paginationapi.itemmanager.ItemSnapshot;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * The SyncItemManagerService interface is the synchronous counterpart of ItemManagerService.
+ * It provides the same operations, but each method does its work on the calling thread and returns the result directly.
+ *
+ * Reads and writes of in-memory item managers take no measurable time, so wrapping them in a CompletableFuture only to block on it
+ * right away costs an allocation and checked-exception handling for nothing. Code that runs inside the API, such as Pagination
+ * and SearchUtils, and callers that need an answer right away use this interface instead. The read methods allocate nothing.
+ *
+ * addItem, addItems and replaceItems return the ItemHandles of the added items. removeItem with a handle removes exactly that item
+ * in constant time and returns whether it was still present, while removeItem with an ItemStack removes the first equal item.
+ *
+ * editItem changes the item of a handle through the given editor. The editor receives a copy, which then replaces the item,
+ * so snapshots already handed out and items shared through an ItemInterner are never changed in place.
+ *
+ * addItems, removeItems and replaceItems apply a whole batch as one change of the manager: one version, one notification to listeners.
+ *
+ * Invalid arguments and unknown manager IDs are reported through HandleExceptions, which logs them and throws a RuntimeException.
+ *
+ * An instance is obtained from ItemManagerService.sync, so both views always work on the same item managers.
+ *
+ * Usage:
+ * SyncItemManagerService items = itemManagerService.sync();
+ * items.addItem(managerId, item);
+ * ItemSnapshot snapshot = items.getSnapshot(managerId);
+ */
+
+public interface SyncItemManagerService {
+    ItemManager createItemManager(UUID managerId);
+    ItemManager getItemManager(UUID managerId);
+    ItemHandle addItem(UUID managerId, ItemStack item);
+    void removeItem(UUID managerId, ItemStack item);
+    boolean removeItem(UUID managerId, ItemHandle handle);
+    boolean editItem(UUID managerId, ItemHandle handle, Consumer<ItemStack> editor);
+    void clearItems(UUID managerId);
+    List<ItemHandle> addItems(UUID managerId, Collection<ItemStack> items);
+    int removeItems(UUID managerId, Collection<ItemStack> items);
+    List<ItemHandle> replaceItems(UUID managerId, Collection<ItemStack> items);
+    List<ItemStack> getItems(UUID managerId);
+    ItemSnapshot getSnapshot(UUID managerId);
+    int getItemCount(UUID managerId);
+    int getPageCount(UUID managerId, int pageSize);
+}
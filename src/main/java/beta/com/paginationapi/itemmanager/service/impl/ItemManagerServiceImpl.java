@@ -1,197 +1,146 @@
 package beta.com.paginationapi.itemmanager.service.impl;
 
-import beta.com.paginationapi.errorevents.HandleExceptions;
+import beta.com.paginationapi.itemmanager.ItemHandle;
 import beta.com.paginationapi.itemmanager.ItemManager;
+import beta.com.paginationapi.itemmanager.ItemSnapshot;
 import beta.com.paginationapi.itemmanager.service.ItemManagerService;
+import beta.com.paginationapi.itemmanager.service.SyncItemManagerService;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 /**
  * The ItemManagerServiceImpl class is an implementation of the ItemManagerService interface.
  * It provides methods for managing items in the application, each returning a CompletableFuture for asynchronous operation.
  *
- * The class maintains a ConcurrentMap of ItemManagers, each identified by a UUID.
- * It also uses an instance of HandleExceptions to handle any exceptions that occur during the execution of its methods.
+ * The item managers themselves are owned by a SyncItemManagerService, which this class wraps and returns from sync.
+ * Every asynchronous method runs the matching synchronous operation on the configured Executor and completes its future with the result.
+ * By default the executor runs the operation directly on the calling thread, which suits in-memory managers: the returned future
+ * is already complete. A store that loads or saves items through I/O can pass a thread pool instead and the futures become truly asynchronous.
+ * With an executor that runs tasks on several threads, operations submitted one after another may run in any order.
  *
  * The createItemManager method creates a new ItemManager and adds it to the map.
  * The getItemManager method retrieves an existing ItemManager from the map.
- * The addItem method adds an item to a specified ItemManager.
- * The removeItem method removes an item from a specified ItemManager.
+ * The addItem method adds an item to a specified ItemManager and completes with its ItemHandle.
+ * The removeItem method removes an item from a specified ItemManager, either the first equal item or exactly the item of an ItemHandle.
+ * The editItem method replaces the item of an ItemHandle with an edited copy.
  * The clearItems method clears all items from a specified ItemManager.
+ * The addItems, removeItems and replaceItems methods apply a batch of changes to a specified ItemManager as a single change;
+ * addItems and replaceItems complete with the handles of the added items.
  * The getItems method retrieves all items from a specified ItemManager.
+ * The getSnapshot method retrieves the current versioned, immutable ItemSnapshot of a specified ItemManager.
+ * The getItemCount and getPageCount methods return the number of items and pages of a specified ItemManager directly, without a CompletableFuture.
  *
- * Each method checks for null parameters and handles exceptions by logging them and completing the returned CompletableFuture exceptionally.
+ * Null parameters and unknown manager IDs are logged by HandleExceptions and complete the returned CompletableFuture exceptionally.
  *
  * Usage:
  * ItemManagerService itemManagerService = new ItemManagerServiceImpl();
  * UUID managerId = ... // get a managerId
  * ItemStack item = ... // get an ItemStack
- * itemManagerService.addItem(managerId, item).thenAccept(void -> {
+ * itemManagerService.addItem(managerId, item).thenAccept(handle -> {
  *     // item has been added
  * });
+ * itemManagerService.sync().addItem(managerId, item); // same operation, without a future
  */
 
 public class ItemManagerServiceImpl implements ItemManagerService {
-    private final ConcurrentMap<UUID, ItemManager> itemManagers = new ConcurrentHashMap<>();
-    private final HandleExceptions handleExceptions = new HandleExceptions();
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
+    private final SyncItemManagerService sync;
+    private final Executor executor;
+
+    public ItemManagerServiceImpl() {
+        this(DIRECT_EXECUTOR);
+    }
+
+    public ItemManagerServiceImpl(Executor executor) {
+        this(new SyncItemManagerServiceImpl(), executor);
+    }
+
+    public ItemManagerServiceImpl(SyncItemManagerService sync, Executor executor) {
+        this.sync = Objects.requireNonNull(sync, "Sync service cannot be null");
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+    }
+
+    @Override
+    public SyncItemManagerService sync() {
+        return sync;
+    }
+
+    @Override
+    public CompletableFuture<ItemManager> createItemManager(UUID managerId) {
+        return CompletableFuture.supplyAsync(() -> sync.createItemManager(managerId), executor);
+    }
+
+    @Override
+    public CompletableFuture<ItemManager> getItemManager(UUID managerId) {
+        return CompletableFuture.supplyAsync(() -> sync.getItemManager(managerId), executor);
+    }
+
+    @Override
+    public CompletableFuture<ItemHandle> addItem(UUID managerId, ItemStack item) {
+        return CompletableFuture.supplyAsync(() -> sync.addItem(managerId, item), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> removeItem(UUID managerId, ItemStack item) {
+        return CompletableFuture.runAsync(() -> sync.removeItem(managerId, item), executor);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> removeItem(UUID managerId, ItemHandle handle) {
+        return CompletableFuture.supplyAsync(() -> sync.removeItem(managerId, handle), executor);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> editItem(UUID managerId, ItemHandle handle, Consumer<ItemStack> editor) {
+        return CompletableFuture.supplyAsync(() -> sync.editItem(managerId, handle, editor), executor);
+    }
 
     @Override
-    public synchronized CompletableFuture<ItemManager> createItemManager(UUID managerId) {
-        CompletableFuture<ItemManager> future = new CompletableFuture<>();
-        if (managerId == null) {
-            handleExceptions.handle(new IllegalArgumentException("Manager ID cannot be null"), this.getClass().getSimpleName(), "createItemManager");
-            future.complete(null);
-            return future;
-        }
-
-        try {
-            ItemManager itemManager = new ItemManager(managerId);
-            itemManagers.put(managerId, itemManager);
-            future.complete(itemManager);
-        } catch (Exception e) {
-            handleExceptions.handle(e, this.getClass().getSimpleName(), "createItemManager");
-            future.completeExceptionally(e);
-        }
-        return future;
+    public CompletableFuture<Void> clearItems(UUID managerId) {
+        return CompletableFuture.runAsync(() -> sync.clearItems(managerId), executor);
     }
 
     @Override
-    public synchronized CompletableFuture<ItemManager> getItemManager(UUID managerId) {
-        CompletableFuture<ItemManager> future = new CompletableFuture<>();
-        if (managerId == null) {
-            handleExceptions.handle(new IllegalArgumentException("Manager ID cannot be null"), this.getClass().getSimpleName(), "getItemManager");
-            future.complete(null);
-            return future;
-        }
-
-        try {
-            ItemManager itemManager = itemManagers.get(managerId);
-            if (itemManager != null) {
-                future.complete(itemManager);
-            } else {
-                future.completeExceptionally(new IllegalArgumentException("ItemManager not found for ID: " + managerId));
-                handleExceptions.handle(new IllegalArgumentException("ItemManager not found for ID: " + managerId), this.getClass().getSimpleName(), "getItemManager");
-            }
-        } catch (Exception e) {
-            handleExceptions.handle(e, this.getClass().getSimpleName(), "getItemManager");
-            future.completeExceptionally(e);
-        }
-        return future;
+    public CompletableFuture<List<ItemHandle>> addItems(UUID managerId, Collection<ItemStack> items) {
+        return CompletableFuture.supplyAsync(() -> sync.addItems(managerId, items), executor);
     }
 
     @Override
-    public synchronized CompletableFuture<Void> addItem(UUID managerId, ItemStack item) {
-        CompletableFuture<Void> future = new CompletableFuture<>();
-        if (managerId == null) {
-            handleExceptions.handle(new IllegalArgumentException("Manager ID cannot be null"), this.getClass().getSimpleName(), "addItem");
-            future.completeExceptionally(new IllegalArgumentException("Manager ID cannot be null"));
-            return future;
-        }
-
-        if (item == null) {
-            handleExceptions.handle(new IllegalArgumentException("Item cannot be null"), this.getClass().getSimpleName(), "addItem");
-            future.completeExceptionally(new IllegalArgumentException("Item cannot be null"));
-            return future;
-        }
-
-        try {
-            ItemManager itemManager = itemManagers.get(managerId);
-            if (itemManager != null) {
-                itemManager.addItem(item);
-                future.complete(null);
-            } else {
-                future.completeExceptionally(new IllegalArgumentException("ItemManager not found for ID: " + managerId));
-                handleExceptions.handle(new IllegalArgumentException("ItemManager not found for ID: " + managerId), this.getClass().getSimpleName(), "addItem");
-            }
-        } catch (Exception e) {
-            handleExceptions.handle(e, this.getClass().getSimpleName(), "addItem");
-            future.completeExceptionally(e);
-        }
-        return future;
+    public CompletableFuture<Integer> removeItems(UUID managerId, Collection<ItemStack> items) {
+        return CompletableFuture.supplyAsync(() -> sync.removeItems(managerId, items), executor);
     }
 
     @Override
-    public synchronized CompletableFuture<Void> removeItem(UUID managerId, ItemStack item) {
-        CompletableFuture<Void> future = new CompletableFuture<>();
-        if (managerId == null) {
-            handleExceptions.handle(new IllegalArgumentException("Manager ID cannot be null"), this.getClass().getSimpleName(), "removeItem");
-            future.completeExceptionally(new IllegalArgumentException("Manager ID cannot be null"));
-            return future;
-        }
-
-        if (item == null) {
-            handleExceptions.handle(new IllegalArgumentException("Item cannot be null"), this.getClass().getSimpleName(), "removeItem");
-            future.completeExceptionally(new IllegalArgumentException("Item cannot be null"));
-            return future;
-        }
-
-        try {
-            ItemManager itemManager = itemManagers.get(managerId);
-            if (itemManager != null) {
-                itemManager.removeItem(item);
-                future.complete(null);
-            } else {
-                future.completeExceptionally(new IllegalArgumentException("ItemManager not found for ID: " + managerId));
-                handleExceptions.handle(new IllegalArgumentException("ItemManager not found for ID: " + managerId), this.getClass().getSimpleName(), "removeItem");
-            }
-        } catch (Exception e) {
-            handleExceptions.handle(e, this.getClass().getSimpleName(), "removeItem");
-            future.completeExceptionally(e);
-        }
-        return future;
+    public CompletableFuture<List<ItemHandle>> replaceItems(UUID managerId, Collection<ItemStack> items) {
+        return CompletableFuture.supplyAsync(() -> sync.replaceItems(managerId, items), executor);
     }
 
     @Override
-    public synchronized CompletableFuture<Void> clearItems(UUID managerId) {
-        CompletableFuture<Void> future = new CompletableFuture<>();
-        if (managerId == null) {
-            handleExceptions.handle(new IllegalArgumentException("Manager ID cannot be null"), this.getClass().getSimpleName(), "clearItems");
-            future.completeExceptionally(new IllegalArgumentException("Manager ID cannot be null"));
-            return future;
-        }
-
-        try {
-            ItemManager itemManager = itemManagers.get(managerId);
-            if (itemManager != null) {
-                itemManager.clearItems();
-                future.complete(null);
-            } else {
-                future.completeExceptionally(new IllegalArgumentException("ItemManager not found for ID: " + managerId));
-                handleExceptions.handle(new IllegalArgumentException("ItemManager not found for ID: " + managerId), this.getClass().getSimpleName(), "clearItems");
-            }
-        } catch (Exception e) {
-            handleExceptions.handle(e, this.getClass().getSimpleName(), "clearItems");
-            future.completeExceptionally(e);
-        }
-        return future;
+    public CompletableFuture<List<ItemStack>> getItems(UUID managerId) {
+        return CompletableFuture.supplyAsync(() -> sync.getItems(managerId), executor);
     }
 
     @Override
-    public synchronized CompletableFuture<List<ItemStack>> getItems(UUID managerId) {
-        CompletableFuture<List<ItemStack>> future = new CompletableFuture<>();
-        if (managerId == null) {
-            handleExceptions.handle(new IllegalArgumentException("Manager ID cannot be null"), this.getClass().getSimpleName(), "getItems");
-            future.completeExceptionally(new IllegalArgumentException("Manager ID cannot be null"));
-            return future;
-        }
-
-        try {
-            ItemManager itemManager = itemManagers.get(managerId);
-            if (itemManager != null) {
-                List<ItemStack> itemList = itemManager.getItems();
-                future.complete(itemList);
-            } else {
-                future.completeExceptionally(new IllegalArgumentException("ItemManager not found for ID: " + managerId));
-                handleExceptions.handle(new IllegalArgumentException("ItemManager not found for ID: " + managerId), this.getClass().getSimpleName(), "getItems");
-            }
-        } catch (Exception e) {
-            handleExceptions.handle(e, this.getClass().getSimpleName(), "getItems");
-            future.completeExceptionally(e);
-        }
-        return future;
+    public CompletableFuture<ItemSnapshot> getSnapshot(UUID managerId) {
+        return CompletableFuture.supplyAsync(() -> sync.getSnapshot(managerId), executor);
+    }
+
+    @Override
+    public int getItemCount(UUID managerId) {
+        return sync.getItemCount(managerId);
+    }
+
+    @Override
+    public int getPageCount(UUID managerId, int pageSize) {
+        return sync.getPageCount(managerId, pageSize);
+    }
+
+    public Executor getExecutor() {
+        return executor;
     }
 }
@@ -0,0 +1,187 @@
+package beta.com.paginationapi.itemmanager.service.impl;
+
+import beta.com.paginationapi.errorevents.HandleExceptions;
+import beta.com.paginationapi.itemmanager.ItemHandle;
+import beta.com.paginationapi.itemmanager.ItemInterner;
+import beta.com.paginationapi.itemmanager.ItemManager;
+import beta.com.paginationapi.itemmanager.ItemSnapshot;
+import beta.com.paginationapi.itemmanager.service.SyncItemManagerService;
+import beta.com.paginationapi.page.utils.PaginationUtils;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+/**
+ * The SyncItemManagerServiceImpl class is the implementation of the SyncItemManagerService interface and the owner of the item managers.
+ *
+ * The class maintains a ConcurrentMap of ItemManagers, each identified by a UUID. Every method looks up the manager once and
+ * works on it on the calling thread. The service holds no lock of its own: every ItemManager guards its own item list,
+ * so operations on different manager IDs never contend with each other and reads never wait for writers.
+ *
+ * When created with an ItemInterner, every manager it creates shares that interner, so equal items are stored once across all of them.
+ *
+ * Null parameters and unknown manager IDs are handled by HandleExceptions, which logs them and throws a RuntimeException.
+ *
+ * ItemManagerServiceImpl wraps an instance of this class to provide the CompletableFuture based ItemManagerService.
+ *
+ * Usage:
+ * SyncItemManagerService items = new SyncItemManagerServiceImpl();
+ * items.createItemManager(managerId);
+ * items.addItem(managerId, item);
+ * int count = items.getItemCount(managerId);
+ */
+
+public class SyncItemManagerServiceImpl implements SyncItemManagerService {
+    private final ConcurrentMap<UUID, ItemManager> itemManagers = new ConcurrentHashMap<>();
+    private final HandleExceptions handleExceptions = new HandleExceptions();
+    private final ItemInterner interner;
+
+    public SyncItemManagerServiceImpl() {
+        this(null);
+    }
+
+    public SyncItemManagerServiceImpl(ItemInterner interner) {
+        this.interner = interner;
+    }
+
+    @Override
+    public ItemManager createItemManager(UUID managerId) {
+        if (managerId == null) {
+            handleExceptions.handle(new IllegalArgumentException("Manager ID cannot be null"), this.getClass().getSimpleName(), "createItemManager");
+            return null;
+        }
+
+        ItemManager itemManager = new ItemManager(managerId, interner);
+        itemManagers.put(managerId, itemManager);
+        return itemManager;
+    }
+
+    @Override
+    public ItemManager getItemManager(UUID managerId) {
+        return require(managerId, "getItemManager");
+    }
+
+    @Override
+    public ItemHandle addItem(UUID managerId, ItemStack item) {
+        ItemManager itemManager = require(managerId, "addItem");
+        if (item == null) {
+            handleExceptions.handle(new IllegalArgumentException("Item cannot be null"), this.getClass().getSimpleName(), "addItem");
+            return null;
+        }
+        return itemManager.addItem(item);
+    }
+
+    @Override
+    public void removeItem(UUID managerId, ItemStack item) {
+        ItemManager itemManager = require(managerId, "removeItem");
+        if (item == null) {
+            handleExceptions.handle(new IllegalArgumentException("Item cannot be null"), this.getClass().getSimpleName(), "removeItem");
+            return;
+        }
+        itemManager.removeItem(item);
+    }
+
+    @Override
+    public boolean removeItem(UUID managerId, ItemHandle handle) {
+        ItemManager itemManager = require(managerId, "removeItem");
+        if (handle == null) {
+            handleExceptions.handle(new IllegalArgumentException("Item handle cannot be null"), this.getClass().getSimpleName(), "removeItem");
+            return false;
+        }
+        return itemManager.removeItem(handle);
+    }
+
+    @Override
+    public boolean editItem(UUID managerId, ItemHandle handle, Consumer<ItemStack> editor) {
+        ItemManager itemManager = require(managerId, "editItem");
+        if (handle == null || editor == null) {
+            handleExceptions.handle(new IllegalArgumentException("Item handle and editor cannot be null"), this.getClass().getSimpleName(), "editItem");
+            return false;
+        }
+        return itemManager.editItem(handle, editor);
+    }
+
+    @Override
+    public void clearItems(UUID managerId) {
+        require(managerId, "clearItems").clearItems();
+    }
+
+    @Override
+    public List<ItemHandle> addItems(UUID managerId, Collection<ItemStack> items) {
+        ItemManager itemManager = require(managerId, "addItems");
+        checkItems(items, "addItems");
+        return itemManager.addItems(items);
+    }
+
+    @Override
+    public int removeItems(UUID managerId, Collection<ItemStack> items) {
+        ItemManager itemManager = require(managerId, "removeItems");
+        checkItems(items, "removeItems");
+        return itemManager.removeItems(items);
+    }
+
+    @Override
+    public List<ItemHandle> replaceItems(UUID managerId, Collection<ItemStack> items) {
+        ItemManager itemManager = require(managerId, "replaceItems");
+        checkItems(items, "replaceItems");
+        return itemManager.replaceItems(items);
+    }
+
+    @Override
+    public List<ItemStack> getItems(UUID managerId) {
+        return require(managerId, "getItems").getItems();
+    }
+
+    @Override
+    public ItemSnapshot getSnapshot(UUID managerId) {
+        return require(managerId, "getSnapshot").getSnapshot();
+    }
+
+    @Override
+    public int getItemCount(UUID managerId) {
+        return require(managerId, "getItemCount").getItemCount();
+    }
+
+    @Override
+    public int getPageCount(UUID managerId, int pageSize) {
+        if (pageSize <= 0) {
+            handleExceptions.handle(new IllegalArgumentException("Page size must be greater than 0"), this.getClass().getSimpleName(), "getPageCount");
+            return 0;
+        }
+        return PaginationUtils.getPageCount(getItemCount(managerId), pageSize);
+    }
+
+    public ItemInterner getInterner() {
+        return interner;
+    }
+
+    private void checkItems(Collection<ItemStack> items, String methodName) {
+        if (items == null) {
+            handleExceptions.handle(new IllegalArgumentException("Items cannot be null"), this.getClass().getSimpleName(), methodName);
+            return;
+        }
+        for (ItemStack item : items) {
+            if (item == null) {
+                handleExceptions.handle(new IllegalArgumentException("Item cannot be null"), this.getClass().getSimpleName(), methodName);
+            }
+        }
+    }
+
+    private ItemManager require(UUID managerId, String methodName) {
+        if (managerId == null) {
+            handleExceptions.handle(new IllegalArgumentException("Manager ID cannot be null"), this.getClass().getSimpleName(), methodName);
+            return null;
+        }
+
+        ItemManager itemManager = itemManagers.get(managerId);
+        if (itemManager == null) {
+            handleExceptions.handle(new IllegalArgumentException("ItemManager not found for ID: " + managerId), this.getClass().getSimpleName(), methodName);
+        }
+        return itemManager;
+    }
+}
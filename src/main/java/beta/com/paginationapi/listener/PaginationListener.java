@@ -14,7 +14,7 @@ import java.util.UUID;
  *
  * The class is identified by a UUID and uses an instance of HandleExceptions to handle any exceptions that occur during the execution of its methods.
  *
- * The onPageAction method handles actions related to pagination. It checks if the player is null or if the player's UUID is null, and if so, it handles the exception and returns. If the player is valid, it checks if there is a next or previous page (depending on the nextPage parameter) and if so, it navigates to that page.
+ * The onPageAction method handles actions related to pagination. It checks if the player is null or if the player's UUID is null, and if so, it handles the exception and returns. If the player is valid, it moves to the next or previous page (depending on the nextPage parameter) through tryNextPage or tryPreviousPage, which check for that page and move in one step, and report a missing page or menu as a status instead of an exception.
  *
  * The onItemAction method handles actions related to items. It checks if the item is null, and if so, it handles the exception and returns. If the item is valid, it checks the addItem parameter to determine whether to add or remove the item, and performs the corresponding action.
  *
@@ -50,12 +50,10 @@ public class PaginationListener {
                 return;
             }
             UUID playerId = player.getUniqueId();
-            if (nextPage ? pagination.hasNextPage(playerId) : pagination.hasPreviousPage(playerId)) {
-                if (nextPage) {
-                    pagination.nextPage(playerId);
-                } else {
-                    pagination.previousPage(playerId);
-                }
+            if (nextPage) {
+                pagination.tryNextPage(playerId);
+            } else {
+                pagination.tryPreviousPage(playerId);
             }
         } catch (Exception e) {
             handleExceptions.handle(e, this.getClass().getSimpleName(), "onPageAction");
@@ -69,9 +67,9 @@ public class PaginationListener {
                 return;
             }
             if (addItem) {
-                itemManagerService.addItem(managerId, item);
+                itemManagerService.sync().addItem(managerId, item);
             } else {
-                itemManagerService.removeItem(managerId, item);
+                itemManagerService.sync().removeItem(managerId, item);
             }
         } catch (Exception e) {
             handleExceptions.handle(e, this.getClass().getSimpleName(), "onItemAction");
@@ -0,0 +1,76 @@
+package beta.com.paginationapi.listener;
+
+import beta.com.paginationapi.page.service.PaginationService;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The PlayerLifecycleListener class keeps the per-player state of a PaginationService from outliving the players it belongs to.
+ *
+ * When a player quits, their active menu and their page in every menu are dropped through PaginationService.forgetPlayer.
+ * Once started, a repeating asynchronous task also calls PaginationService.evictIdlePlayers, so state that is never cleaned up
+ * by a quit, for example after a missed event or a player who left a menu open, is dropped once it has been idle for the configured time.
+ *
+ * Players who asked for their pages to be remembered keep their page in a bounded table inside each Pagination and get it back
+ * the next time they open the menu, so remembering pages does not make the state grow without limit.
+ *
+ * Usage:
+ * PlayerLifecycleListener lifecycleListener = new PlayerLifecycleListener(paginationService, plugin, TimeUnit.MINUTES.toMillis(30));
+ * Bukkit.getPluginManager().registerEvents(lifecycleListener, plugin);
+ * lifecycleListener.start();
+ * lifecycleListener.stop(); // on plugin disable
+ */
+
+public class PlayerLifecycleListener implements Listener {
+    public static final long DEFAULT_IDLE_TTL_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+    private static final long MILLIS_PER_TICK = 50L;
+    private static final long MIN_SWEEP_TICKS = 20L * 60;
+
+    private final PaginationService pagination;
+    private final Plugin plugin;
+    private final long idleTtlMillis;
+    private BukkitTask sweepTask;
+
+    public PlayerLifecycleListener(PaginationService pagination) {
+        this(pagination, JavaPlugin.getProvidingPlugin(PlayerLifecycleListener.class), DEFAULT_IDLE_TTL_MILLIS);
+    }
+
+    public PlayerLifecycleListener(PaginationService pagination, Plugin plugin, long idleTtlMillis) {
+        if (idleTtlMillis <= 0) {
+            throw new IllegalArgumentException("Idle time must be greater than 0");
+        }
+        this.pagination = pagination;
+        this.plugin = plugin;
+        this.idleTtlMillis = idleTtlMillis;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        pagination.forgetPlayer(event.getPlayer().getUniqueId());
+    }
+
+    public synchronized void start() {
+        if (sweepTask != null) return;
+        long period = Math.max(MIN_SWEEP_TICKS, idleTtlMillis / MILLIS_PER_TICK / 4);
+        sweepTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> pagination.evictIdlePlayers(idleTtlMillis), period, period);
+    }
+
+    public synchronized void stop() {
+        if (sweepTask == null) return;
+        sweepTask.cancel();
+        sweepTask = null;
+    }
+
+    public long getIdleTtlMillis() {
+        return idleTtlMillis;
+    }
+}
@@ -0,0 +1,51 @@
+package beta.com.paginationapi.navigation;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+/**
+ * The ButtonTemplates class holds the one shared instance of each button the API puts into menus: next page, previous page and search.
+ *
+ * Each template is built on first use, after the server is running, and then reused, so showing a button no longer builds
+ * a new ItemMeta every time. The templates themselves stay private: every accessor returns a clone, which copies the finished meta,
+ * so a caller that renames or changes the button it got cannot change the button anyone else gets.
+ *
+ * Usage:
+ * ItemStack nextButton = ButtonTemplates.nextPage();
+ */
+
+public final class ButtonTemplates {
+
+    private ButtonTemplates() {
+    }
+
+    public static ItemStack nextPage() {
+        return PageButtons.NEXT.clone();
+    }
+
+    public static ItemStack previousPage() {
+        return PageButtons.PREVIOUS.clone();
+    }
+
+    public static ItemStack search() {
+        return SearchButton.SEARCH.clone();
+    }
+
+    private static ItemStack button(Material material, String displayName) {
+        ItemStack button = new ItemStack(material);
+        ItemMeta meta = button.getItemMeta();
+        meta.setDisplayName(displayName);
+        button.setItemMeta(meta);
+        return button;
+    }
+
+    private static final class PageButtons {
+        private static final ItemStack NEXT = button(Material.ARROW, "Next Page");
+        private static final ItemStack PREVIOUS = button(Material.ARROW, "Previous Page");
+    }
+
+    private static final class SearchButton {
+        private static final ItemStack SEARCH = button(Material.COMPASS, "Search");
+    }
+}
@@ -1,41 +1,82 @@
 package beta.com.paginationapi.navigation;
 
 import beta.com.paginationapi.errorevents.HandleExceptions;
+import beta.com.paginationapi.page.Pagination;
 import beta.com.paginationapi.page.service.PaginationService;
-import org.bukkit.Material;
+import beta.com.paginationapi.page.service.PaginationStatus;
+import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
 
 import java.util.UUID;
 
 /**
  * The Navigation class is responsible for creating navigation buttons for the pagination system in the application.
  * It interacts with the PaginationService to determine the state of the pagination (whether there are next or previous pages) and creates the appropriate navigation buttons.
+ * The buttons are copies of the templates in ButtonTemplates, so no ItemMeta is built per button.
+ * The page state is read through the exception-free try methods, so a player without an active menu simply gets no button
+ * instead of an exception being built and logged for every button.
  * It also uses a HandleExceptions instance to handle any exceptions that occur during these operations, ensuring that the application can recover gracefully from errors.
+ *
+ * showPage fills an inventory with the player's current page, items and buttons together, from a PageRenderCache. Players looking at
+ * the same page of an unchanged catalog share one rendered page, so neither the page nor its buttons are rebuilt per player or per click.
+ * createNextPageButton and createPreviousPageButton remain for menus that place the buttons themselves.
+ *
+ * Usage:
+ * Navigation navigation = new Navigation(paginationService);
+ * Inventory inventory = Bukkit.createInventory(null, 54, "Shop");
+ * if (navigation.showPage(inventory, player.getUniqueId()).isOk()) {
+ *     player.openInventory(inventory);
+ * }
  */
 
 public class Navigation {
     private final PaginationService pagination;
+    private final PageRenderCache renderCache;
     private final HandleExceptions handleExceptions;
 
     public Navigation(PaginationService pagination) {
+        this(pagination, new PageRenderCache(pagination.getItemManager()));
+    }
+
+    public Navigation(PaginationService pagination, PageRenderCache renderCache) {
         this.pagination = pagination;
+        this.renderCache = renderCache;
         this.handleExceptions = new HandleExceptions();
     }
 
+    public PaginationStatus showPage(Inventory inventory, UUID playerId) {
+        if (playerId == null) return PaginationStatus.INVALID_PLAYER;
+        if (inventory == null) {
+            handleExceptions.handle(new IllegalArgumentException("Inventory cannot be null"), this.getClass().getSimpleName(), "showPage");
+            return PaginationStatus.INVALID_PLAYER;
+        }
+        UUID menuId = pagination.getActiveMenu(playerId);
+        Pagination menu = menuId == null ? null : pagination.getMenu(menuId);
+        if (menu == null) return PaginationStatus.NO_ACTIVE_MENU;
+        try {
+            renderCache.render(inventory, menu, playerId);
+            return PaginationStatus.OK;
+        } catch (Exception e) {
+            handleExceptions.handle(e, this.getClass().getSimpleName(), "showPage");
+            return PaginationStatus.INVALID_PAGE;
+        }
+    }
+
+    public PageRenderCache getRenderCache() {
+        return renderCache;
+    }
+
     private ItemStack createPageButton(UUID playerId, boolean isNext) {
         if (playerId == null) {
             handleExceptions.handle(new IllegalArgumentException("Player ID cannot be null"), this.getClass().getSimpleName(), "createPageButton");
             return null;
         }
-        boolean condition = isNext ? pagination.hasNextPage(playerId) && pagination.isPageFull(playerId) : pagination.hasPreviousPage(playerId) && !pagination.isPageEmpty(playerId);
+        boolean condition = isNext
+                ? pagination.tryHasNextPage(playerId).getValueOrDefault(false) && pagination.tryIsPageFull(playerId).getValueOrDefault(false)
+                : pagination.tryHasPreviousPage(playerId).getValueOrDefault(false) && !pagination.tryIsPageEmpty(playerId).getValueOrDefault(true);
         if (!condition) return null;
 
-        ItemStack pageButton = new ItemStack(Material.ARROW);
-        ItemMeta meta = pageButton.getItemMeta();
-        meta.setDisplayName(isNext ? "Next Page" : "Previous Page");
-        pageButton.setItemMeta(meta);
-        return pageButton;
+        return isNext ? ButtonTemplates.nextPage() : ButtonTemplates.previousPage();
     }
 
     public ItemStack createNextPageButton(UUID playerId) {
@@ -0,0 +1,147 @@
+package beta.com.paginationapi.navigation;
+
+import beta.com.paginationapi.itemmanager.ItemSnapshot;
+import beta.com.paginationapi.itemmanager.service.ItemManagerService;
+import beta.com.paginationapi.page.Pagination;
+import beta.com.paginationapi.page.cache.PageCache;
+import beta.com.paginationapi.page.utils.PaginationUtils;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.UUID;
+
+/**
+ * The PageRenderCache class keeps fully rendered menu pages, ready to be copied into an inventory.
+ *
+ * A rendered page is an ItemStack array the size of the inventory: the items of the page from the first slot on, and the previous page,
+ * next page and search buttons at their configured slots. Which buttons are shown depends only on the page and the number of items,
+ * so copies of the buttons from ButtonTemplates are baked in when the page is rendered. Showing a page is then a single setContents
+ * call with the cached array, which the inventory copies, instead of rebuilding the page and its buttons.
+ *
+ * The rendered arrays are stored in a PageCache<ItemStack[]>, so they share its keys: manager ID, catalog version, page number and page size.
+ * A rendered page can never be shown for a catalog it was not built from, the entries of older versions of a manager are dropped
+ * as soon as a newer version is seen, and the number of entries is bounded, with the least recently used page evicted first.
+ *
+ * The cached arrays never leave this class. getPage returns a copy in which every item is cloned as well, so a caller that changes
+ * the returned items cannot change the cached page, the shared button templates or the items of the manager.
+ *
+ * A button slot can be set to NO_SLOT to leave that button out. Buttons are placed after the items, so a button slot inside the
+ * item area replaces the item shown there.
+ *
+ * Usage:
+ * PageRenderCache renderCache = new PageRenderCache(itemManagerService);
+ * Inventory inventory = Bukkit.createInventory(null, 54, "Shop");
+ * renderCache.render(inventory, paginationService.getMenu(menuId), player.getUniqueId());
+ * player.openInventory(inventory);
+ */
+
+public class PageRenderCache {
+    public static final int DEFAULT_CAPACITY = 256;
+    public static final int DEFAULT_INVENTORY_SIZE = 54;
+    public static final int NO_SLOT = -1;
+
+    private final ItemManagerService itemManagerService;
+    private final int inventorySize;
+    private final int previousSlot;
+    private final int nextSlot;
+    private final int searchSlot;
+    private final PageCache<ItemStack[]> pages;
+
+    public PageRenderCache(ItemManagerService itemManagerService) {
+        this(itemManagerService, DEFAULT_CAPACITY, DEFAULT_INVENTORY_SIZE, 45, 53, 49);
+    }
+
+    public PageRenderCache(ItemManagerService itemManagerService, int capacity, int inventorySize, int previousSlot, int nextSlot, int searchSlot) {
+        if (capacity <= 0 || inventorySize <= 0) {
+            throw new IllegalArgumentException("Capacity and inventory size must be greater than 0");
+        }
+        if (!validSlot(previousSlot, inventorySize) || !validSlot(nextSlot, inventorySize) || !validSlot(searchSlot, inventorySize)) {
+            throw new IllegalArgumentException("Button slots must be inside the inventory or NO_SLOT");
+        }
+        this.itemManagerService = itemManagerService;
+        this.inventorySize = inventorySize;
+        this.previousSlot = previousSlot;
+        this.nextSlot = nextSlot;
+        this.searchSlot = searchSlot;
+        this.pages = new PageCache<>(capacity);
+    }
+
+    public void render(Inventory inventory, Pagination pagination, UUID playerId) {
+        render(inventory, pagination.getManagerId(), pagination.getPageForPlayer(playerId), pagination.getPageSize());
+    }
+
+    public void render(Inventory inventory, UUID managerId, int page, int pageSize) {
+        if (inventory.getSize() != inventorySize) {
+            throw new IllegalArgumentException("Inventory size must be " + inventorySize);
+        }
+        inventory.setContents(rendered(managerId, page, pageSize));
+    }
+
+    public ItemStack[] getPage(UUID managerId, int page, int pageSize) {
+        ItemStack[] rendered = rendered(managerId, page, pageSize);
+        ItemStack[] copy = new ItemStack[rendered.length];
+        for (int slot = 0; slot < rendered.length; slot++) {
+            if (rendered[slot] != null) {
+                copy[slot] = rendered[slot].clone();
+            }
+        }
+        return copy;
+    }
+
+    public void invalidate(UUID managerId) {
+        pages.invalidate(managerId);
+    }
+
+    public void clear() {
+        pages.clear();
+    }
+
+    public int size() {
+        return pages.size();
+    }
+
+    public int getInventorySize() {
+        return inventorySize;
+    }
+
+    public long getHits() {
+        return pages.getHits();
+    }
+
+    public long getMisses() {
+        return pages.getMisses();
+    }
+
+    private ItemStack[] rendered(UUID managerId, int page, int pageSize) {
+        if (page < 0 || pageSize <= 0 || pageSize > inventorySize) {
+            throw new IllegalArgumentException("Page must not be negative and page size must be between 1 and " + inventorySize);
+        }
+        ItemSnapshot snapshot = itemManagerService.sync().getSnapshot(managerId);
+        return pages.get(managerId, snapshot.getVersion(), page, pageSize, () -> render(snapshot, page, pageSize));
+    }
+
+    private ItemStack[] render(ItemSnapshot snapshot, int page, int pageSize) {
+        ItemStack[] contents = new ItemStack[inventorySize];
+        int totalItems = snapshot.size();
+        int start = Math.min(PaginationUtils.getPageStart(page, pageSize), totalItems);
+        int end = PaginationUtils.getPageEnd(page, pageSize, totalItems);
+        for (int i = start; i < end; i++) {
+            contents[i - start] = snapshot.get(i);
+        }
+        // Same conditions as Navigation: a next button needs a further page, a previous button a non-empty catalog.
+        if (previousSlot != NO_SLOT && PaginationUtils.hasPreviousPage(page) && totalItems > 0) {
+            contents[previousSlot] = ButtonTemplates.previousPage();
+        }
+        if (nextSlot != NO_SLOT && PaginationUtils.hasNextPage(page, pageSize, totalItems) && totalItems >= pageSize) {
+            contents[nextSlot] = ButtonTemplates.nextPage();
+        }
+        if (searchSlot != NO_SLOT) {
+            contents[searchSlot] = ButtonTemplates.search();
+        }
+        return contents;
+    }
+
+    private static boolean validSlot(int slot, int inventorySize) {
+        return slot == NO_SLOT || (slot >= 0 && slot < inventorySize);
+    }
+}
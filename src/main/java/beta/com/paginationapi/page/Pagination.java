@@ -1,27 +1,39 @@
 package beta.com.paginationapi.page;
 
+import beta.com.paginationapi.itemmanager.ItemSnapshot;
 import beta.com.paginationapi.itemmanager.service.ItemManagerService;
+import beta.com.paginationapi.page.cache.PageCache;
 import beta.com.paginationapi.page.utils.PaginationUtils;
 import org.bukkit.inventory.ItemStack;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ExecutionException;
 
 /**
  * The Pagination class manages the pagination system for displaying items to individual players identified by UUIDs.
  *
- * This class maintains player-specific pagination states using maps:
- * - Player pages map: Tracks the current page for each player.
- * - Active status map: Indicates whether a player is currently active.
+ * This class maintains player-specific pagination states in one compact PlayerStateMap:
+ * - The current page of each player.
+ * - Whether the player's menu is currently active.
+ *
+ * Both values share one primitive slot per player. Every access holds the map's monitor, so moving to the next or previous page
+ * is a single atomic update and two threads paging for the same player can never skip a page or move past the last one.
+ *
+ * Player state does not outlive the player: forgetPlayer drops it, which PlayerLifecycleListener does when a player quits,
+ * and evictIdlePlayers drops the state of players that have not touched the menu for a while. A player who asked for their
+ * pages to be remembered keeps their page in a bounded, least-recently-used table and gets it back when the menu is opened again.
  *
  * Pagination relies on the ItemManagerService to handle item management:
  * - Items are fetched and organized into pages based on a specified page size.
  *
  * Key functionalities include:
  * - Retrieving items on the current page for a player, using PaginationUtils for index calculations.
+ *   Page slices are served from a PageCache keyed by the manager's catalog version, so players looking at the same page
+ *   of an unchanged catalog share one slice instead of each recomputing it.
  * - Navigating between pages by updating player pages and checking for next or previous pages.
  * - Checking if a page is empty or full based on item availability and page size.
  * - Opening a specific page for a player after validating the page number.
@@ -37,80 +49,177 @@ import java.util.concurrent.ExecutionException;
 public class Pagination {
     private final int pageSize;
     private final ItemManagerService itemManagerService;
-    private final Map<UUID, Integer> playerPages = new HashMap<>();
-    private final Map<UUID, Boolean> activeStatus = new HashMap<>();
+    public static final int DEFAULT_REMEMBERED_PAGES = 1024;
+
+    private final PlayerStateMap playerStates = new PlayerStateMap();
+    private final Map<UUID, Integer> rememberedPages;
     private final UUID managerId;
+    private final PageCache<List<ItemStack>> pageCache;
 
     public Pagination(int pageSize, ItemManagerService itemManagerService, UUID managerId) {
+        this(pageSize, itemManagerService, managerId, new PageCache<>());
+    }
+
+    public Pagination(int pageSize, ItemManagerService itemManagerService, UUID managerId, PageCache<List<ItemStack>> pageCache) {
+        this(pageSize, itemManagerService, managerId, pageCache, DEFAULT_REMEMBERED_PAGES);
+    }
+
+    public Pagination(int pageSize, ItemManagerService itemManagerService, UUID managerId, PageCache<List<ItemStack>> pageCache, int rememberedPagesCapacity) {
+        if (rememberedPagesCapacity < 0) {
+            throw new IllegalArgumentException("Remembered pages capacity cannot be negative");
+        }
+        this.rememberedPages = new LinkedHashMap<UUID, Integer>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Integer> eldest) {
+                return size() > rememberedPagesCapacity;
+            }
+        };
         this.pageSize = pageSize;
         this.itemManagerService = itemManagerService;
         this.managerId = managerId;
+        this.pageCache = pageCache;
     }
 
-    public List<ItemStack> getCurrentPageItems(UUID playerId) throws ExecutionException, InterruptedException {
-        int page = playerPages.getOrDefault(playerId, 0);
-        return PaginationUtils.getItemsForPage(itemManagerService, managerId, page, pageSize);
+    public List<ItemStack> getCurrentPageItems(UUID playerId) {
+        return getItemsForPage(getPageForPlayer(playerId));
+    }
+
+    private List<ItemStack> getItemsForPage(int page) {
+        ItemSnapshot snapshot = itemManagerService.sync().getSnapshot(managerId);
+        // The page is copied out of the snapshot, so a cached page does not keep the whole snapshot array alive.
+        return pageCache.get(managerId, snapshot.getVersion(), page, pageSize,
+                () -> Collections.unmodifiableList(Arrays.asList(PaginationUtils.getItemsForPage(snapshot, page, pageSize).toArray(new ItemStack[0]))));
     }
 
     public void rememberPages(UUID playerId, boolean remember) {
-        if (!remember) playerPages.put(playerId, 0);
+        synchronized (playerStates) {
+            playerStates.setRemember(playerId, remember);
+            if (!remember) {
+                playerStates.setPage(playerId, 0);
+                rememberedPages.remove(playerId);
+            }
+        }
     }
 
     public void setPageForPlayer(UUID playerId, int page) {
-        playerPages.put(playerId, page);
+        synchronized (playerStates) {
+            playerStates.setPage(playerId, page);
+        }
     }
 
     public int getPageForPlayer(UUID playerId) {
-        return playerPages.getOrDefault(playerId, 0);
+        synchronized (playerStates) {
+            return playerStates.getPage(playerId);
+        }
     }
 
-    public void nextPage(UUID playerId) throws ExecutionException, InterruptedException {
-        if (PaginationUtils.hasNextPage(getPageForPlayer(playerId), pageSize, itemManagerService.getItems(managerId).get().size())) {
-            playerPages.put(playerId, getPageForPlayer(playerId) + 1);
+    public boolean nextPage(UUID playerId) {
+        int totalItems = itemManagerService.getItemCount(managerId);
+        synchronized (playerStates) {
+            int page = playerStates.getPage(playerId);
+            if (!PaginationUtils.hasNextPage(page, pageSize, totalItems)) return false;
+            playerStates.setPage(playerId, page + 1);
+            return true;
         }
     }
 
-    public void previousPage(UUID playerId) {
-        if (PaginationUtils.hasPreviousPage(getPageForPlayer(playerId))) {
-            playerPages.put(playerId, getPageForPlayer(playerId) - 1);
+    public boolean previousPage(UUID playerId) {
+        synchronized (playerStates) {
+            int page = playerStates.getPage(playerId);
+            if (!PaginationUtils.hasPreviousPage(page)) return false;
+            playerStates.setPage(playerId, page - 1);
+            return true;
         }
     }
 
-    public boolean hasNextPage(UUID playerId) throws ExecutionException, InterruptedException {
-        return PaginationUtils.hasNextPage(getPageForPlayer(playerId), pageSize, itemManagerService.getItems(managerId).get().size());
+    public boolean hasNextPage(UUID playerId) {
+        return PaginationUtils.hasNextPage(getPageForPlayer(playerId), pageSize, itemManagerService.getItemCount(managerId));
     }
 
     public boolean hasPreviousPage(UUID playerId) {
         return PaginationUtils.hasPreviousPage(getPageForPlayer(playerId));
     }
 
-    public boolean isPageEmpty() throws ExecutionException, InterruptedException {
-        return PaginationUtils.isPageEmpty(itemManagerService, managerId, pageSize);
+    public boolean isPageEmpty() {
+        return itemManagerService.getItemCount(managerId) == 0;
+    }
+
+    public boolean isPageFull() {
+        return itemManagerService.getItemCount(managerId) >= pageSize;
     }
 
-    public boolean isPageFull() throws ExecutionException, InterruptedException {
-        return PaginationUtils.isPageFull(itemManagerService, managerId, pageSize);
+    public int getPageCount() {
+        return itemManagerService.getPageCount(managerId, pageSize);
     }
 
-    public void openPageForPlayer(UUID playerId, int pageNumber) throws ExecutionException, InterruptedException {
-        if (pageNumber >= 0 && PaginationUtils.getPageStart(pageNumber, pageSize) < itemManagerService.getItems(managerId).get().size()) {
+    public boolean openPageForPlayer(UUID playerId, int pageNumber) {
+        if (pageNumber >= 0 && PaginationUtils.getPageStart(pageNumber, pageSize) < itemManagerService.getItemCount(managerId)) {
             setPageForPlayer(playerId, pageNumber);
+            return true;
         }
+        return false;
     }
 
     public int getPageSize() {
         return pageSize;
     }
 
+    public UUID getManagerId() {
+        return managerId;
+    }
+
+    public PageCache<List<ItemStack>> getPageCache() {
+        return pageCache;
+    }
+
     public void setActive(UUID playerId) {
-        activeStatus.put(playerId, true);
+        synchronized (playerStates) {
+            if (!playerStates.contains(playerId)) {
+                Integer remembered = rememberedPages.remove(playerId);
+                if (remembered != null) {
+                    playerStates.setPage(playerId, remembered);
+                    playerStates.setRemember(playerId, true);
+                }
+            }
+            playerStates.setActive(playerId, true);
+        }
     }
 
     public boolean isActive(UUID playerId) {
-        return activeStatus.getOrDefault(playerId, false);
+        synchronized (playerStates) {
+            return playerStates.isActive(playerId);
+        }
     }
 
     public void close(UUID playerId) {
-        activeStatus.remove(playerId);
+        synchronized (playerStates) {
+            playerStates.setActive(playerId, false);
+        }
+    }
+
+    public void forgetPlayer(UUID playerId) {
+        synchronized (playerStates) {
+            int page = playerStates.getPage(playerId);
+            if (page > 0 && playerStates.isRemembering(playerId)) {
+                rememberedPages.put(playerId, page);
+            }
+            playerStates.remove(playerId);
+        }
+    }
+
+    public List<UUID> evictIdlePlayers(long idleMillis) {
+        synchronized (playerStates) {
+            List<UUID> idle = playerStates.idlePlayers(idleMillis);
+            for (UUID playerId : idle) {
+                forgetPlayer(playerId);
+            }
+            return idle;
+        }
+    }
+
+    public int getTrackedPlayers() {
+        synchronized (playerStates) {
+            return playerStates.size();
+        }
     }
 }
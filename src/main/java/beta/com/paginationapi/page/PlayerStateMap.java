@@ -0,0 +1,224 @@
+package beta.com.paginationapi.page;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The PlayerStateMap class holds the per-player state of one Pagination: the current page, whether the menu is active
+ * and whether the player asked for the page to be remembered.
+ *
+ * It is an open-addressing hash table keyed by the two longs of the player's UUID. Keys live in one long array and the state
+ * of each slot in one int array, with the page number in the upper bits and the two flags in the lowest bits, so an entry
+ * costs no objects at all: no map node, no boxed Integer or Boolean, and no reference that keeps the UUID alive.
+ * Collisions are resolved by linear probing and removal shifts the following entries back, so no tombstones build up.
+ *
+ * A player on page 0 with no flags set is the default state and is not stored; setting that state removes the entry.
+ *
+ * Every access also records, in whole seconds, when the entry was last used, so idle entries can be found with idlePlayers.
+ * Because of that resolution an entry is reported up to two seconds after it became idle, but never before; an idle time below
+ * one second counts as one second.
+ *
+ * The map is not thread-safe on its own. Pagination guards every access with the map's monitor, which also makes
+ * read-modify-write steps such as moving to the next page atomic.
+ *
+ * Usage:
+ * PlayerStateMap states = new PlayerStateMap();
+ * states.setPage(playerId, 2);
+ * states.setActive(playerId, true);
+ * int page = states.getPage(playerId);
+ */
+
+final class PlayerStateMap {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int EMPTY = -1;
+    private static final int ACTIVE = 1;
+    private static final int REMEMBER = 2;
+    private static final int FLAGS = ACTIVE | REMEMBER;
+    private static final int PAGE_SHIFT = 2;
+    private static final int MAX_PAGE = Integer.MAX_VALUE >>> PAGE_SHIFT;
+
+    private final long origin = System.nanoTime();
+    private long[] keys;
+    private int[] states;
+    private int[] touched;
+    private int size;
+
+    PlayerStateMap() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    int getPage(UUID playerId) {
+        int slot = access(playerId);
+        return slot < 0 ? 0 : states[slot] >>> PAGE_SHIFT;
+    }
+
+    boolean isActive(UUID playerId) {
+        int slot = access(playerId);
+        return slot >= 0 && (states[slot] & ACTIVE) != 0;
+    }
+
+    boolean isRemembering(UUID playerId) {
+        int slot = access(playerId);
+        return slot >= 0 && (states[slot] & REMEMBER) != 0;
+    }
+
+    boolean contains(UUID playerId) {
+        return find(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits()) >= 0;
+    }
+
+    void setPage(UUID playerId, int page) {
+        if (page < 0 || page > MAX_PAGE) {
+            throw new IllegalArgumentException("Page must be between 0 and " + MAX_PAGE);
+        }
+        long msb = playerId.getMostSignificantBits();
+        long lsb = playerId.getLeastSignificantBits();
+        int slot = find(msb, lsb);
+        int flags = slot < 0 ? 0 : states[slot] & FLAGS;
+        store(msb, lsb, slot, page << PAGE_SHIFT | flags);
+    }
+
+    void setActive(UUID playerId, boolean active) {
+        setFlag(playerId, ACTIVE, active);
+    }
+
+    void setRemember(UUID playerId, boolean remember) {
+        setFlag(playerId, REMEMBER, remember);
+    }
+
+    List<UUID> idlePlayers(long idleMillis) {
+        // Both the last access and now are whole seconds rounded down, so the time actually idle can be up to a second longer or
+        // shorter than their difference. Rounding the idle time up and requiring a full extra second never evicts a player early.
+        long cutoff = now() - (idleMillis + 999) / 1000;
+        List<UUID> idle = new ArrayList<>();
+        for (int slot = 0; slot < states.length; slot++) {
+            if (states[slot] != EMPTY && touched[slot] < cutoff) {
+                idle.add(new UUID(keys[slot * 2], keys[slot * 2 + 1]));
+            }
+        }
+        return idle;
+    }
+
+    void remove(UUID playerId) {
+        int slot = find(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits());
+        if (slot >= 0) {
+            delete(slot);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        Arrays.fill(states, EMPTY);
+        size = 0;
+    }
+
+    private void setFlag(UUID playerId, int flag, boolean value) {
+        long msb = playerId.getMostSignificantBits();
+        long lsb = playerId.getLeastSignificantBits();
+        int slot = find(msb, lsb);
+        int state = slot < 0 ? 0 : states[slot] & ~flag;
+        store(msb, lsb, slot, value ? state | flag : state);
+    }
+
+    private int access(UUID playerId) {
+        int slot = find(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits());
+        if (slot >= 0) {
+            touched[slot] = now();
+        }
+        return slot;
+    }
+
+    private void store(long msb, long lsb, int slot, int state) {
+        if (state == 0) {
+            if (slot >= 0) delete(slot);
+            return;
+        }
+        if (slot >= 0) {
+            states[slot] = state;
+            touched[slot] = now();
+            return;
+        }
+        if ((size + 1) * 4 > states.length * 3) {
+            resize(states.length * 2);
+        }
+        insert(msb, lsb, state, now());
+        size++;
+    }
+
+    private int find(long msb, long lsb) {
+        int mask = states.length - 1;
+        for (int slot = hash(msb, lsb) & mask; states[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (keys[slot * 2] == msb && keys[slot * 2 + 1] == lsb) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private void insert(long msb, long lsb, int state, int time) {
+        int mask = states.length - 1;
+        int slot = hash(msb, lsb) & mask;
+        while (states[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot * 2] = msb;
+        keys[slot * 2 + 1] = lsb;
+        states[slot] = state;
+        touched[slot] = time;
+    }
+
+    private void delete(int slot) {
+        int mask = states.length - 1;
+        int hole = slot;
+        for (int next = (hole + 1) & mask; states[next] != EMPTY; next = (next + 1) & mask) {
+            int home = hash(keys[next * 2], keys[next * 2 + 1]) & mask;
+            // Move the entry back into the hole unless its home slot lies cyclically in (hole, next].
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole * 2] = keys[next * 2];
+                keys[hole * 2 + 1] = keys[next * 2 + 1];
+                states[hole] = states[next];
+                touched[hole] = touched[next];
+                hole = next;
+            }
+        }
+        states[hole] = EMPTY;
+        size--;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldStates = states;
+        int[] oldTouched = touched;
+        allocate(capacity);
+        for (int slot = 0; slot < oldStates.length; slot++) {
+            if (oldStates[slot] != EMPTY) {
+                insert(oldKeys[slot * 2], oldKeys[slot * 2 + 1], oldStates[slot], oldTouched[slot]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity * 2];
+        states = new int[capacity];
+        touched = new int[capacity];
+        Arrays.fill(states, EMPTY);
+    }
+
+    private int now() {
+        return (int) TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - origin);
+    }
+
+    // Package-private so tests can pick players that collide in the same slots.
+    static int hash(long msb, long lsb) {
+        long h = msb * 0x9E3779B97F4A7C15L ^ lsb;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
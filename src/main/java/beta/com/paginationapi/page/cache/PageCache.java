@@ -0,0 +1,192 @@
+package beta.com.paginationapi.page.cache;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * The PageCache class is a bounded, least-recently-used cache of pages shared by the menus of a PaginationService.
+ *
+ * The cache is generic over what it stores for a page. Pagination caches the page's item list, a PageCache<List<ItemStack>>,
+ * and PageRenderCache caches the fully rendered inventory contents, a PageCache<ItemStack[]>; both get the same keys, versioning and eviction.
+ *
+ * Entries are keyed by manager ID, catalog version, page number and page size. Because the catalog version changes with every
+ * change to the item list, a cached page can never be served for a list it was not cut from. When a lookup sees a newer version
+ * of a manager than the cache has seen before, all entries of the older versions of that manager are dropped right away instead
+ * of waiting to be pushed out by the LRU order.
+ *
+ * The cache remembers the latest version of a manager only while it holds pages of that manager, together with the keys of those pages,
+ * so dropping the pages of a manager touches only its own entries, and a manager whose last page was evicted costs nothing.
+ * Loaders should return pages that do not share storage with the snapshot they were cut from, so a cached page does not keep
+ * the whole item array of an old snapshot alive.
+ *
+ * The cache keeps hit, miss, eviction and invalidation counters which can be read at any time, for example from a debug command.
+ *
+ * Usage:
+ * PageCache<List<ItemStack>> pageCache = new PageCache<>(256);
+ * List<ItemStack> page = pageCache.get(managerId, snapshot.getVersion(), 0, 45, () -> new ArrayList<>(snapshot.subList(0, 45)));
+ * long hits = pageCache.getHits();
+ */
+
+public class PageCache<V> {
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final int capacity;
+    private final Map<Key, V> entries;
+    private final Map<UUID, ManagerEntries> managers = new HashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PageCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public PageCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than 0");
+        }
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<Key, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, V> eldest) {
+                if (size() > PageCache.this.capacity) {
+                    evictions.incrementAndGet();
+                    forgetKey(eldest.getKey());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public V get(UUID managerId, long version, int page, int pageSize, Supplier<V> loader) {
+        Key key = new Key(managerId, version, page, pageSize);
+        synchronized (this) {
+            ManagerEntries manager = managers.get(managerId);
+            if (manager != null && manager.version < version) {
+                removeEntries(managerId);
+            }
+            V cached = entries.get(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+        }
+
+        misses.incrementAndGet();
+        V loaded = loader.get();
+        synchronized (this) {
+            ManagerEntries manager = managers.get(managerId);
+            if (manager != null && manager.version > version) {
+                return loaded;
+            }
+            if (manager != null && manager.version < version) {
+                removeEntries(managerId);
+                manager = null;
+            }
+            if (manager == null) {
+                manager = new ManagerEntries(version);
+                managers.put(managerId, manager);
+            }
+            manager.keys.add(key);
+            entries.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    public synchronized void invalidate(UUID managerId) {
+        removeEntries(managerId);
+    }
+
+    public synchronized void clear() {
+        invalidations.addAndGet(entries.size());
+        entries.clear();
+        managers.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public long getInvalidations() {
+        return invalidations.get();
+    }
+
+    private void removeEntries(UUID managerId) {
+        ManagerEntries manager = managers.remove(managerId);
+        if (manager == null) return;
+        for (Key key : manager.keys) {
+            entries.remove(key);
+        }
+        invalidations.addAndGet(manager.keys.size());
+    }
+
+    private void forgetKey(Key key) {
+        ManagerEntries manager = managers.get(key.managerId);
+        if (manager != null && manager.keys.remove(key) && manager.keys.isEmpty()) {
+            managers.remove(key.managerId);
+        }
+    }
+
+    private static final class ManagerEntries {
+        private final long version;
+        private final Set<Key> keys = new HashSet<>();
+
+        private ManagerEntries(long version) {
+            this.version = version;
+        }
+    }
+
+    private static final class Key {
+        private final UUID managerId;
+        private final long version;
+        private final int page;
+        private final int pageSize;
+
+        private Key(UUID managerId, long version, int page, int pageSize) {
+            this.managerId = managerId;
+            this.version = version;
+            this.page = page;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return version == key.version && page == key.page && pageSize == key.pageSize && managerId.equals(key.managerId);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = managerId.hashCode();
+            result = 31 * result + Long.hashCode(version);
+            result = 31 * result + page;
+            return 31 * result + pageSize;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package beta.com.paginationapi.page.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The PaginationResult class pairs a PaginationStatus with the value of a successful query, for the exception-free methods of PaginationService.
+ *
+ * Results that carry no value are shared constants, one per status, and so are the two possible boolean results,
+ * so a failed lookup or a boolean query allocates nothing.
+ *
+ * Usage:
+ * PaginationResult<List<ItemStack>> result = paginationService.tryGetCurrentPageItems(playerId);
+ * if (result.isOk()) {
+ *     render(result.getValue());
+ * } else if (result.getStatus() == PaginationStatus.NO_ACTIVE_MENU) {
+ *     // nothing to show
+ * }
+ *
+ * @param <T> the type of the value carried by a successful result
+ */
+
+public final class PaginationResult<T> {
+    private static final Map<PaginationStatus, PaginationResult<?>> FAILURES = new EnumMap<>(PaginationStatus.class);
+    private static final PaginationResult<Boolean> TRUE = new PaginationResult<>(PaginationStatus.OK, Boolean.TRUE);
+    private static final PaginationResult<Boolean> FALSE = new PaginationResult<>(PaginationStatus.OK, Boolean.FALSE);
+
+    static {
+        for (PaginationStatus status : PaginationStatus.values()) {
+            FAILURES.put(status, new PaginationResult<>(status, null));
+        }
+    }
+
+    private final PaginationStatus status;
+    private final T value;
+
+    private PaginationResult(PaginationStatus status, T value) {
+        this.status = status;
+        this.value = value;
+    }
+
+    public static <T> PaginationResult<T> ok(T value) {
+        return new PaginationResult<>(PaginationStatus.OK, value);
+    }
+
+    public static PaginationResult<Boolean> of(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> PaginationResult<T> failure(PaginationStatus status) {
+        return (PaginationResult<T>) FAILURES.get(status);
+    }
+
+    public PaginationStatus getStatus() {
+        return status;
+    }
+
+    public boolean isOk() {
+        return status == PaginationStatus.OK;
+    }
+
+    public T getValue() {
+        return value;
+    }
+
+    public T getValueOrDefault(T defaultValue) {
+        return isOk() ? value : defaultValue;
+    }
+}
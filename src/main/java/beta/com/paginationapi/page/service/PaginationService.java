@@ -2,6 +2,7 @@ package beta.com.paginationapi.page.service;
 
 import beta.com.paginationapi.itemmanager.service.ItemManagerService;
 import beta.com.paginationapi.page.Pagination;
+import beta.com.paginationapi.page.cache.PageCache;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.List;
@@ -14,6 +15,15 @@ import java.util.UUID;
  * The interface is designed to work with the ItemManagerService, which manages items that are displayed in the pages.
  * It also uses UUIDs to identify menus and players, providing a way to manage multiple menus and player states simultaneously.
  *
+ * Page slices of all menus are served from a shared PageCache, whose hit, miss and eviction counters are available through getPageCache.
+ *
+ * Player state is dropped with forgetPlayer, typically when the player quits, and evictIdlePlayers drops the state of players
+ * that have been idle for longer than the given time. PlayerLifecycleListener wires both to the server.
+ *
+ * The methods prefixed with try are an exception-free alternative for hot paths. They report routine outcomes such as
+ * "player does not have an active menu" or "already on the last page" as a PaginationStatus or PaginationResult
+ * instead of logging and throwing, and reserve exceptions for real failures.
+ *
  * The methods in this interface allow the application to create a flexible and robust pagination system, where each player can have their own active menu and navigate through it independently.
  */
 
@@ -54,4 +64,30 @@ public interface PaginationService {
     void openPageForPlayer(UUID playerId, int pageNumber);
 
     int getPageSize();
+
+    PageCache<List<ItemStack>> getPageCache();
+
+    void forgetPlayer(UUID playerId);
+
+    int evictIdlePlayers(long idleMillis);
+
+    PaginationResult<List<ItemStack>> tryGetCurrentPageItems(UUID playerId);
+
+    PaginationResult<Integer> tryGetPageForPlayer(UUID playerId);
+
+    PaginationStatus tryNextPage(UUID playerId);
+
+    PaginationStatus tryPreviousPage(UUID playerId);
+
+    PaginationResult<Boolean> tryHasNextPage(UUID playerId);
+
+    PaginationResult<Boolean> tryHasPreviousPage(UUID playerId);
+
+    PaginationResult<Boolean> tryIsPageEmpty(UUID playerId);
+
+    PaginationResult<Boolean> tryIsPageFull(UUID playerId);
+
+    PaginationStatus tryOpenPageForPlayer(UUID playerId, int pageNumber);
+
+    PaginationStatus tryCloseMenu(UUID playerId);
 }
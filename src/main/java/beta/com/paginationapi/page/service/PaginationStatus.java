@@ -0,0 +1,28 @@
+package beta.com.paginationapi.page.service;
+
+/**
+ * Enum describing the outcome of a PaginationService call made through its exception-free methods (the ones prefixed with {@code try}).
+ * <p>
+ * {@code OK}: The call succeeded.
+ * {@code INVALID_PLAYER}: The player ID was null.
+ * {@code INVALID_PAGE}: The page number was negative or beyond the last page.
+ * {@code NO_ACTIVE_MENU}: The player does not have an active menu.
+ * {@code NO_NEXT_PAGE}: The player is already on the last page.
+ * {@code NO_PREVIOUS_PAGE}: The player is already on the first page.
+ * <p>
+ * These are routine outcomes of navigation, so they are reported without building, logging or throwing an exception.
+ * Real failures, such as a missing item manager, are still reported through HandleExceptions.
+ */
+
+public enum PaginationStatus {
+    OK,
+    INVALID_PLAYER,
+    INVALID_PAGE,
+    NO_ACTIVE_MENU,
+    NO_NEXT_PAGE,
+    NO_PREVIOUS_PAGE;
+
+    public boolean isOk() {
+        return this == OK;
+    }
+}
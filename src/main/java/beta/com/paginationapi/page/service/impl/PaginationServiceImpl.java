@@ -3,16 +3,23 @@ package beta.com.paginationapi.page.service.impl;
 import beta.com.paginationapi.errorevents.HandleExceptions;
 import beta.com.paginationapi.itemmanager.service.ItemManagerService;
 import beta.com.paginationapi.page.Pagination;
+import beta.com.paginationapi.page.cache.PageCache;
+import beta.com.paginationapi.page.service.PaginationResult;
 import beta.com.paginationapi.page.service.PaginationService;
+import beta.com.paginationapi.page.service.PaginationStatus;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * The PaginationServiceImpl class is an implementation of the PaginationService interface.
  * It provides a concrete implementation of the pagination system in the application.
  *
  * The class maintains a map of menus, each identified by a UUID, and a map of active menus for each player.
+ * Both are concurrent maps, so every method may be called from any thread, including the async chat thread.
+ * A player's active menu entry points straight at the menu's Pagination, so each call costs a single map lookup.
  * It uses an instance of ItemManagerService to manage the items that are displayed in the menus.
  *
  * The class provides methods for creating menus, getting and setting active menus, navigating through pages, and querying page states.
@@ -38,17 +45,30 @@ import java.util.*;
  * isPageFull: Checks if the current page for a player is full. It also handles exceptions related to invalid arguments and other issues.
  * openPageForPlayer: Opens a specific page for a player. It also handles exceptions related to invalid arguments and other issues.
  * getPageSize: Retrieves the page size. It also handles exceptions related to invalid arguments and other issues.
+ * tryGetCurrentPageItems, tryGetPageForPlayer, tryNextPage, tryPreviousPage, tryHasNextPage, tryHasPreviousPage, tryIsPageEmpty, tryIsPageFull,
+ * tryOpenPageForPlayer and tryCloseMenu: Exception-free variants of the methods above. A null player ID, a missing active menu or
+ * a page that does not exist is returned as a PaginationStatus without creating, logging or throwing an exception.
+ * Unexpected failures are still handled by HandleExceptions.
+ * getPageCache: Returns the PageCache shared by all menus created by this service, including its hit, miss and eviction counters.
+ * forgetPlayer: Drops the active menu and the page state of a player in every menu, for example when the player quits.
+ * evictIdlePlayers: Drops the state of players that have not used a menu for the given time and returns how many entries were removed.
  */
 
 public class PaginationServiceImpl implements PaginationService {
 
-    private final Map<UUID, Pagination> menus = new HashMap<>();
-    private final Map<UUID, UUID> activeMenus = new HashMap<>();
+    private final ConcurrentMap<UUID, Pagination> menus = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UUID, ActiveMenu> activeMenus = new ConcurrentHashMap<>();
     private final ItemManagerService itemManager;
     private final HandleExceptions handleExceptions = new HandleExceptions();
+    private final PageCache<List<ItemStack>> pageCache;
 
     public PaginationServiceImpl(ItemManagerService itemManager) {
+        this(itemManager, new PageCache<>());
+    }
+
+    public PaginationServiceImpl(ItemManagerService itemManager, PageCache<List<ItemStack>> pageCache) {
         this.itemManager = itemManager;
+        this.pageCache = pageCache;
     }
 
     @Override
@@ -68,7 +88,7 @@ public class PaginationServiceImpl implements PaginationService {
         }
 
         try {
-            Pagination pagination = new Pagination(pageSize, itemManager,managerID);
+            Pagination pagination = new Pagination(pageSize, itemManager, managerID, pageCache);
             menus.put(menuId, pagination);
             return pagination;
         } catch (Exception e) {
@@ -105,8 +125,13 @@ public class PaginationServiceImpl implements PaginationService {
         }
 
         try {
-            activeMenus.put(playerId, menuId);
-            menus.get(menuId).setActive(playerId);
+            Pagination pagination = menus.get(menuId);
+            if (pagination == null) {
+                handleExceptions.handle(new IllegalArgumentException("Menu not found for ID: " + menuId), this.getClass().getSimpleName(), "setActiveMenu");
+                return;
+            }
+            activeMenus.put(playerId, new ActiveMenu(menuId, pagination));
+            pagination.setActive(playerId);
         } catch (Exception e) {
             handleExceptions.handle(e, this.getClass().getSimpleName(), "setActiveMenu");
         }
@@ -119,12 +144,12 @@ public class PaginationServiceImpl implements PaginationService {
             return;
         }
         try {
-            UUID activeMenuId = activeMenus.get(playerId);
-            if (activeMenuId == null) {
+            ActiveMenu activeMenu = activeMenus.remove(playerId);
+            if (activeMenu == null) {
                 handleExceptions.handle(new IllegalArgumentException("Player does not have an active menu"), this.getClass().getSimpleName(), "closeMenu");
+                return;
             }
-            menus.get(activeMenuId).close(playerId);
-            activeMenus.remove(playerId);
+            activeMenu.pagination.close(playerId);
         } catch (Exception e) {
             handleExceptions.handle(e, this.getClass().getSimpleName(), "closeMenu");
         }
@@ -138,7 +163,8 @@ public class PaginationServiceImpl implements PaginationService {
             return null;
         }
         try {
-            return activeMenus.get(playerId);
+            ActiveMenu activeMenu = activeMenus.get(playerId);
+            return activeMenu == null ? null : activeMenu.menuId;
         } catch (Exception e) {
             handleExceptions.handle(e, this.getClass().getSimpleName(), "getActiveMenu");
             return null;
@@ -153,12 +179,12 @@ public class PaginationServiceImpl implements PaginationService {
             return Collections.emptyList();
         }
         try {
-            UUID activeMenuId = activeMenus.get(playerId);
-            if (activeMenuId == null) {
+            ActiveMenu activeMenu = activeMenus.get(playerId);
+            if (activeMenu == null) {
                 handleExceptions.handle(new IllegalArgumentException("Player does not have an active menu"), this.getClass().getSimpleName(), "getCurrentPageItems");
                 return Collections.emptyList();
             }
-            return menus.get(activeMenuId).getCurrentPageItems(playerId);
+            return activeMenu.pagination.getCurrentPageItems(playerId);
         } catch (Exception e) {
             handleExceptions.handle(e, this.getClass().getSimpleName(), "getCurrentPageItems");
             return Collections.emptyList();
@@ -174,12 +200,12 @@ public class PaginationServiceImpl implements PaginationService {
         }
 
         try {
-            UUID activeMenuId = activeMenus.get(playerId);
-            if (activeMenuId == null) {
+            ActiveMenu activeMenu = activeMenus.get(playerId);
+            if (activeMenu == null) {
                 handleExceptions.handle(new IllegalArgumentException("Player does not have an active menu"), this.getClass().getSimpleName(), "rememberPages");
                 return;
             }
-            menus.get(activeMenuId).rememberPages(playerId, remember);
+            activeMenu.pagination.rememberPages(playerId, remember);
         } catch (Exception e) {
             handleExceptions.handle(e, this.getClass().getSimpleName(), "rememberPages");
         }
@@ -198,13 +224,13 @@ public class PaginationServiceImpl implements PaginationService {
         }
 
         try {
-            UUID activeMenuId = activeMenus.get(playerId);
+            ActiveMenu activeMenu = activeMenus.get(playerId);
 
-            if (activeMenuId == null) {
+            if (activeMenu == null) {
                 handleExceptions.handle(new IllegalArgumentException("Player does not have an active menu"), this.getClass().getSimpleName(), "setPageForPlayer");
                 return;
             }
-            menus.get(activeMenuId).setPageForPlayer(playerId, page);
+            activeMenu.pagination.setPageForPlayer(playerId, page);
         } catch (Exception e) {
             handleExceptions.handle(e, this.getClass().getSimpleName(), "setPageForPlayer");
         }
@@ -218,12 +244,12 @@ public class PaginationServiceImpl implements PaginationService {
         }
 
         try {
-            UUID activeMenuId = activeMenus.get(playerId);
-            if (activeMenuId == null) {
+            ActiveMenu activeMenu = activeMenus.get(playerId);
+            if (activeMenu == null) {
                 handleExceptions.handle(new IllegalArgumentException("Player does not have an active menu"), this.getClass().getSimpleName(), "getPageForPlayer");
                 return 0;
             }
-            return menus.get(activeMenuId).getPageForPlayer(playerId);
+            return activeMenu.pagination.getPageForPlayer(playerId);
         } catch (Exception e) {
             handleExceptions.handle(e, this.getClass().getSimpleName(), "getPageForPlayer");
             return 0;
@@ -238,13 +264,13 @@ public class PaginationServiceImpl implements PaginationService {
         }
 
         try {
-            UUID activeMenuId = activeMenus.get(playerId);
+            ActiveMenu activeMenu = activeMenus.get(playerId);
 
-            if (activeMenuId == null) {
+            if (activeMenu == null) {
                 handleExceptions.handle(new IllegalArgumentException("Player does not have an active menu"), this.getClass().getSimpleName(), "nextPage");
                 return;
             }
-            menus.get(activeMenuId).nextPage(playerId);
+            activeMenu.pagination.nextPage(playerId);
         } catch (Exception e) {
             handleExceptions.handle(e, this.getClass().getSimpleName(), "nextPage");
         }
@@ -258,12 +284,12 @@ public class PaginationServiceImpl implements PaginationService {
          }
 
         try {
-            UUID activeMenuId = activeMenus.get(playerId);
-            if (activeMenuId == null) {
+            ActiveMenu activeMenu = activeMenus.get(playerId);
+            if (activeMenu == null) {
                 handleExceptions.handle(new IllegalArgumentException("Player does not have an active menu"), this.getClass().getSimpleName(), "previousPage");
                 return;
             }
-            menus.get(activeMenuId).previousPage(playerId);
+            activeMenu.pagination.previousPage(playerId);
         } catch (Exception e) {
             handleExceptions.handle(e, this.getClass().getSimpleName(), "previousPage");
         }
@@ -277,11 +303,11 @@ public class PaginationServiceImpl implements PaginationService {
         }
 
         try {
-            UUID activeMenuId = activeMenus.get(playerId);
-            if (activeMenuId == null) {
+            ActiveMenu activeMenu = activeMenus.get(playerId);
+            if (activeMenu == null) {
                 return false;
             }
-            return menus.get(activeMenuId).hasNextPage(playerId);
+            return activeMenu.pagination.hasNextPage(playerId);
         } catch (Exception e) {
             handleExceptions.handle(e, this.getClass().getSimpleName(), "hasNextPage");
             return false;
@@ -296,12 +322,12 @@ public class PaginationServiceImpl implements PaginationService {
         }
 
         try {
-            UUID activeMenuId = activeMenus.get(playerId);
-            if (activeMenuId == null) {
+            ActiveMenu activeMenu = activeMenus.get(playerId);
+            if (activeMenu == null) {
                 handleExceptions.handle(new IllegalArgumentException("Player does not have an active menu"), this.getClass().getSimpleName(), "hasPreviousPage");
                 return false;
             }
-            return menus.get(activeMenuId).hasPreviousPage(playerId);
+            return activeMenu.pagination.hasPreviousPage(playerId);
         } catch (Exception e) {
             handleExceptions.handle(e, this.getClass().getSimpleName(), "hasPreviousPage");
             return false;
@@ -316,11 +342,11 @@ public class PaginationServiceImpl implements PaginationService {
         }
 
         try {
-            UUID activeMenuId = activeMenus.get(playerId);
-            if (activeMenuId == null) {
+            ActiveMenu activeMenu = activeMenus.get(playerId);
+            if (activeMenu == null) {
                 return true;
             }
-            return menus.get(activeMenuId).isPageEmpty();
+            return activeMenu.pagination.isPageEmpty();
         } catch (Exception e) {
             handleExceptions.handle(e, this.getClass().getSimpleName(), "isPageEmpty");
             return true;
@@ -335,12 +361,12 @@ public class PaginationServiceImpl implements PaginationService {
         }
 
         try {
-            UUID activeMenuId = activeMenus.get(playerId);
-            if (activeMenuId == null) {
+            ActiveMenu activeMenu = activeMenus.get(playerId);
+            if (activeMenu == null) {
                 handleExceptions.handle(new IllegalArgumentException("Player does not have an active menu"), this.getClass().getSimpleName(), "isPageFull");
                 return false;
             }
-            return menus.get(activeMenuId).isPageFull();
+            return activeMenu.pagination.isPageFull();
         } catch (Exception e) {
             handleExceptions.handle(e, this.getClass().getSimpleName(), "isPageFull");
             return false;
@@ -361,12 +387,12 @@ public class PaginationServiceImpl implements PaginationService {
         }
 
         try {
-            UUID activeMenuId = activeMenus.get(playerId);
-            if (activeMenuId == null) {
+            ActiveMenu activeMenu = activeMenus.get(playerId);
+            if (activeMenu == null) {
                 handleExceptions.handle(new IllegalArgumentException("Player does not have an active menu"), this.getClass().getSimpleName(), "openPageForPlayer");
                 return;
             }
-            menus.get(activeMenuId).openPageForPlayer(playerId, pageNumber);
+            activeMenu.pagination.openPageForPlayer(playerId, pageNumber);
 
         } catch (Exception e) {
             handleExceptions.handle(e, this.getClass().getSimpleName(), "openPageForPlayer");
@@ -386,4 +412,173 @@ public class PaginationServiceImpl implements PaginationService {
             return 0;
         }
     }
+
+    @Override
+    public PageCache<List<ItemStack>> getPageCache() {
+        return pageCache;
+    }
+
+    @Override
+    public void forgetPlayer(UUID playerId) {
+        if (playerId == null) {
+            handleExceptions.handle(new IllegalArgumentException("Player ID cannot be null"), this.getClass().getSimpleName(), "forgetPlayer");
+            return;
+        }
+
+        try {
+            activeMenus.remove(playerId);
+            for (Pagination pagination : menus.values()) {
+                pagination.forgetPlayer(playerId);
+            }
+        } catch (Exception e) {
+            handleExceptions.handle(e, this.getClass().getSimpleName(), "forgetPlayer");
+        }
+    }
+
+    @Override
+    public int evictIdlePlayers(long idleMillis) {
+        if (idleMillis <= 0) {
+            handleExceptions.handle(new IllegalArgumentException("Idle time must be greater than 0"), this.getClass().getSimpleName(), "evictIdlePlayers");
+            return 0;
+        }
+
+        try {
+            int evicted = 0;
+            for (Pagination pagination : menus.values()) {
+                for (UUID playerId : pagination.evictIdlePlayers(idleMillis)) {
+                    ActiveMenu activeMenu = activeMenus.get(playerId);
+                    if (activeMenu != null && activeMenu.pagination == pagination) {
+                        activeMenus.remove(playerId, activeMenu);
+                    }
+                    evicted++;
+                }
+            }
+            return evicted;
+        } catch (Exception e) {
+            handleExceptions.handle(e, this.getClass().getSimpleName(), "evictIdlePlayers");
+            return 0;
+        }
+    }
+
+    @Override
+    public PaginationResult<List<ItemStack>> tryGetCurrentPageItems(UUID playerId) {
+        Pagination pagination = playerId == null ? null : activePagination(playerId);
+        if (pagination == null) return PaginationResult.failure(activeStatus(playerId));
+        try {
+            return PaginationResult.ok(pagination.getCurrentPageItems(playerId));
+        } catch (Exception e) {
+            handleExceptions.handle(e, this.getClass().getSimpleName(), "tryGetCurrentPageItems");
+            return PaginationResult.ok(Collections.emptyList());
+        }
+    }
+
+    @Override
+    public PaginationResult<Integer> tryGetPageForPlayer(UUID playerId) {
+        Pagination pagination = playerId == null ? null : activePagination(playerId);
+        if (pagination == null) return PaginationResult.failure(activeStatus(playerId));
+        return PaginationResult.ok(pagination.getPageForPlayer(playerId));
+    }
+
+    @Override
+    public PaginationStatus tryNextPage(UUID playerId) {
+        Pagination pagination = playerId == null ? null : activePagination(playerId);
+        if (pagination == null) return activeStatus(playerId);
+        try {
+            return pagination.nextPage(playerId) ? PaginationStatus.OK : PaginationStatus.NO_NEXT_PAGE;
+        } catch (Exception e) {
+            handleExceptions.handle(e, this.getClass().getSimpleName(), "tryNextPage");
+            return PaginationStatus.NO_NEXT_PAGE;
+        }
+    }
+
+    @Override
+    public PaginationStatus tryPreviousPage(UUID playerId) {
+        Pagination pagination = playerId == null ? null : activePagination(playerId);
+        if (pagination == null) return activeStatus(playerId);
+        return pagination.previousPage(playerId) ? PaginationStatus.OK : PaginationStatus.NO_PREVIOUS_PAGE;
+    }
+
+    @Override
+    public PaginationResult<Boolean> tryHasNextPage(UUID playerId) {
+        Pagination pagination = playerId == null ? null : activePagination(playerId);
+        if (pagination == null) return PaginationResult.failure(activeStatus(playerId));
+        try {
+            return PaginationResult.of(pagination.hasNextPage(playerId));
+        } catch (Exception e) {
+            handleExceptions.handle(e, this.getClass().getSimpleName(), "tryHasNextPage");
+            return PaginationResult.of(false);
+        }
+    }
+
+    @Override
+    public PaginationResult<Boolean> tryHasPreviousPage(UUID playerId) {
+        Pagination pagination = playerId == null ? null : activePagination(playerId);
+        if (pagination == null) return PaginationResult.failure(activeStatus(playerId));
+        return PaginationResult.of(pagination.hasPreviousPage(playerId));
+    }
+
+    @Override
+    public PaginationResult<Boolean> tryIsPageEmpty(UUID playerId) {
+        Pagination pagination = playerId == null ? null : activePagination(playerId);
+        if (pagination == null) return PaginationResult.failure(activeStatus(playerId));
+        try {
+            return PaginationResult.of(pagination.isPageEmpty());
+        } catch (Exception e) {
+            handleExceptions.handle(e, this.getClass().getSimpleName(), "tryIsPageEmpty");
+            return PaginationResult.of(true);
+        }
+    }
+
+    @Override
+    public PaginationResult<Boolean> tryIsPageFull(UUID playerId) {
+        Pagination pagination = playerId == null ? null : activePagination(playerId);
+        if (pagination == null) return PaginationResult.failure(activeStatus(playerId));
+        try {
+            return PaginationResult.of(pagination.isPageFull());
+        } catch (Exception e) {
+            handleExceptions.handle(e, this.getClass().getSimpleName(), "tryIsPageFull");
+            return PaginationResult.of(false);
+        }
+    }
+
+    @Override
+    public PaginationStatus tryOpenPageForPlayer(UUID playerId, int pageNumber) {
+        if (pageNumber < 0) return playerId == null ? PaginationStatus.INVALID_PLAYER : PaginationStatus.INVALID_PAGE;
+        Pagination pagination = playerId == null ? null : activePagination(playerId);
+        if (pagination == null) return activeStatus(playerId);
+        try {
+            return pagination.openPageForPlayer(playerId, pageNumber) ? PaginationStatus.OK : PaginationStatus.INVALID_PAGE;
+        } catch (Exception e) {
+            handleExceptions.handle(e, this.getClass().getSimpleName(), "tryOpenPageForPlayer");
+            return PaginationStatus.INVALID_PAGE;
+        }
+    }
+
+    @Override
+    public PaginationStatus tryCloseMenu(UUID playerId) {
+        ActiveMenu activeMenu = playerId == null ? null : activeMenus.remove(playerId);
+        if (activeMenu == null) return activeStatus(playerId);
+        activeMenu.pagination.close(playerId);
+        return PaginationStatus.OK;
+    }
+
+    private Pagination activePagination(UUID playerId) {
+        ActiveMenu activeMenu = activeMenus.get(playerId);
+        return activeMenu == null ? null : activeMenu.pagination;
+    }
+
+    // Only called once the single lookup found no active menu, so the status follows from the player ID alone.
+    private static PaginationStatus activeStatus(UUID playerId) {
+        return playerId == null ? PaginationStatus.INVALID_PLAYER : PaginationStatus.NO_ACTIVE_MENU;
+    }
+
+    private static final class ActiveMenu {
+        private final UUID menuId;
+        private final Pagination pagination;
+
+        private ActiveMenu(UUID menuId, Pagination pagination) {
+            this.menuId = menuId;
+            this.pagination = pagination;
+        }
+    }
 }
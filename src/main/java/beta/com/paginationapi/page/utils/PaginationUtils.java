@@ -1,19 +1,21 @@
 package beta.com.paginationapi.page.utils;
 
+import beta.com.paginationapi.itemmanager.ItemSnapshot;
 import beta.com.paginationapi.itemmanager.service.ItemManagerService;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ExecutionException;
 
 /**
  * The PaginationUtils class provides utility methods for managing pagination in the application.
  *
  * It provides methods for calculating the start and end indices of a page, checking if there are next or previous pages, and retrieving the items for a specific page.
+ * Page items are cut from a single ItemSnapshot, so a returned page stays consistent even while items are being added or removed.
  * These methods are designed to work with an instance of ItemManagerService, which manages the items that are displayed in the pages.
  *
  * The class also provides methods for checking if a page is empty or full, which can be useful for managing the state of the pagination system.
+ * Those checks and getPageCount only need the number of items, which they read in O(1) through ItemManagerService.getItemCount.
  *
  * The methods in this class are static, meaning they can be called without creating an instance of the class. This makes them easy to use throughout the application.
  */
@@ -35,17 +37,25 @@ public class PaginationUtils {
         return page > 0;
     }
 
-    public static List<ItemStack> getItemsForPage(ItemManagerService itemManagerService, UUID managerId, int page, int pageSize) throws ExecutionException, InterruptedException {
+    public static int getPageCount(int totalItems, int pageSize) {
+        return (totalItems + pageSize - 1) / pageSize;
+    }
+
+    public static List<ItemStack> getItemsForPage(ItemManagerService itemManagerService, UUID managerId, int page, int pageSize) {
+        return getItemsForPage(itemManagerService.sync().getSnapshot(managerId), page, pageSize);
+    }
+
+    public static List<ItemStack> getItemsForPage(ItemSnapshot snapshot, int page, int pageSize) {
         int start = getPageStart(page, pageSize);
-        int end = getPageEnd(page, pageSize, itemManagerService.getItems(managerId).get().size());
-        return itemManagerService.getItems(managerId).get().subList(start, end);
+        int end = getPageEnd(page, pageSize, snapshot.size());
+        return snapshot.subList(start, end);
     }
 
-    public static boolean isPageEmpty(ItemManagerService itemManagerService, UUID managerId, int pageSize) throws ExecutionException, InterruptedException {
-        return getItemsForPage(itemManagerService, managerId, 0, pageSize).isEmpty();
+    public static boolean isPageEmpty(ItemManagerService itemManagerService, UUID managerId, int pageSize) {
+        return itemManagerService.getItemCount(managerId) == 0;
     }
 
-    public static boolean isPageFull(ItemManagerService itemManagerService, UUID managerId, int pageSize) throws ExecutionException, InterruptedException {
-        return getItemsForPage(itemManagerService, managerId, 0, pageSize).size() == pageSize;
+    public static boolean isPageFull(ItemManagerService itemManagerService, UUID managerId, int pageSize) {
+        return itemManagerService.getItemCount(managerId) >= pageSize;
     }
 }
@@ -0,0 +1,161 @@
+package beta.com.paginationapi.search;
+
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The SearchExecutor class runs item searches on a dedicated, bounded pool of threads instead of the thread that received the chat message.
+ *
+ * The pool has a fixed number of threads, which is the global limit of searches running at the same time, and a bounded queue
+ * that absorbs short chat floods. When the queue is full a new search is rejected right away rather than piling up.
+ *
+ * Each player has at most one search in flight: submitting a new search for a player cancels the previous one.
+ * Each search also has a timeout after which it is cancelled and its future completes with a TimeoutException.
+ * The timer thread behind the timeouts is shared with the SearchSessionRegistry of every SearchFunction that uses this executor.
+ *
+ * The limits only hold across all menus if all of them share one executor. getInstance returns the executor owned by the plugin,
+ * created on first use and shared by every SearchFunction built with the short constructor. The plugin shuts it down through
+ * shutdownInstance when it is disabled, so a reload does not leave its threads behind; the next getInstance creates a new one.
+ *
+ * The returned CompletableFuture completes on a search thread with the result of the search, or exceptionally with
+ * a CancellationException, TimeoutException or RejectedExecutionException. Callers that need to touch Bukkit state
+ * must hand the result back to the main thread themselves, as SearchFunction does.
+ *
+ * Usage:
+ * SearchExecutor searchExecutor = SearchExecutor.getInstance();
+ * searchExecutor.submit(playerId, () -> SearchUtils.findFirstMatch(itemManager, SearchType.NAME, query, managerId))
+ *         .whenComplete((position, error) -> ...);
+ * SearchExecutor.shutdownInstance(); // on plugin disable
+ */
+
+public class SearchExecutor {
+    public static final int DEFAULT_THREADS = 2;
+    public static final int DEFAULT_QUEUE_CAPACITY = 64;
+    public static final long DEFAULT_TIMEOUT_MILLIS = 2000L;
+
+    private static SearchExecutor instance;
+
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService timeouts;
+    private final ConcurrentMap<UUID, CompletableFuture<?>> running = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+
+    public SearchExecutor() {
+        this(DEFAULT_THREADS, DEFAULT_QUEUE_CAPACITY, DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    public SearchExecutor(int threads, int queueCapacity, long timeoutMillis) {
+        if (threads <= 0 || queueCapacity <= 0 || timeoutMillis <= 0) {
+            throw new IllegalArgumentException("Threads, queue capacity and timeout must be greater than 0");
+        }
+        this.timeoutMillis = timeoutMillis;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory("PaginationAPI-Search"), new ThreadPoolExecutor.AbortPolicy());
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, threadFactory("PaginationAPI-SearchTimer"));
+        scheduler.setRemoveOnCancelPolicy(true);
+        this.timeouts = scheduler;
+    }
+
+    public static synchronized SearchExecutor getInstance() {
+        if (instance == null || instance.isShutdown()) {
+            instance = new SearchExecutor();
+        }
+        return instance;
+    }
+
+    public static synchronized void shutdownInstance() {
+        if (instance != null) {
+            instance.shutdown();
+            instance = null;
+        }
+    }
+
+    public <T> CompletableFuture<T> submit(UUID playerId, Callable<T> search) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<?> previous = running.put(playerId, result);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                if (result.isDone()) return;
+                try {
+                    result.complete(search.call());
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.remove(playerId, result);
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        ScheduledFuture<?> timeout = timeouts.schedule(() -> {
+            result.completeExceptionally(new TimeoutException("Search timed out after " + timeoutMillis + " ms"));
+        }, timeoutMillis, TimeUnit.MILLISECONDS);
+
+        result.whenComplete((value, error) -> {
+            running.remove(playerId, result);
+            timeout.cancel(false);
+            if (error instanceof CancellationException || error instanceof TimeoutException) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    public void cancel(UUID playerId) {
+        CompletableFuture<?> search = running.remove(playerId);
+        if (search != null) {
+            search.cancel(false);
+        }
+    }
+
+    ScheduledExecutorService getScheduler() {
+        return timeouts;
+    }
+
+    public int getRunningSearches() {
+        return running.size();
+    }
+
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    public void shutdown() {
+        running.values().forEach(search -> search.cancel(false));
+        running.clear();
+        executor.shutdownNow();
+        timeouts.shutdownNow();
+    }
+
+    private static ThreadFactory threadFactory(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName(name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
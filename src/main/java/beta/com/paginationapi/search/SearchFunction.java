@@ -1,8 +1,10 @@
 package beta.com.paginationapi.search;
 
 import beta.com.paginationapi.itemmanager.service.ItemManagerService;
+import beta.com.paginationapi.navigation.ButtonTemplates;
 import beta.com.paginationapi.page.service.PaginationService;
 import beta.com.paginationapi.search.utils.SearchUtils;
+import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
@@ -11,41 +13,61 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.player.AsyncPlayerChatEvent;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
 
 import java.util.UUID;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 
 /**
  * The SearchFunction class is a listener that handles search functionality within a pagination system.
  *
  * It listens for inventory click events and player chat events to facilitate a search operation.
- * The search can be performed based on item name or lore within the items managed by an ItemManagerService.
+ * The search can be performed based on item name or lore, or by the start of any name or lore word, within the items managed by an ItemManagerService.
  * The results of the search are navigated using a PaginationService.
  *
- * The class maintains the state of the search operation, including the player in search mode, the current search type, and the manager ID.
+ * Search state is kept per player in a SearchSessionRegistry, so any number of players can search at the same time.
+ * A session that is abandoned halfway, for example by a player who never types a query, expires after a configurable time to live.
+ *
+ * The search itself never runs on the chat thread. It is handed to a SearchExecutor, which bounds, times out and cancels searches,
+ * and the result is handed back to the server main thread through the Bukkit scheduler before the page is changed.
+ * Unless one is passed in, the plugin's shared SearchExecutor is used, so its limits apply across all menus. The executor is not owned
+ * by a SearchFunction: shutdown only ends the search sessions of this function, and the plugin shuts the executor down when it is disabled.
+ *
+ * createSearchButton returns a copy of the search button template in ButtonTemplates.
  */
 
 public class SearchFunction implements Listener {
 
     private final PaginationService pagination;
     private final ItemManagerService itemManager;
-    private UUID playerInSearchMode;
-    private SearchType currentSearchType = SearchType.NONE;
+    private final Plugin plugin;
+    private final SearchExecutor searchExecutor;
+    private final SearchSessionRegistry sessions;
     private UUID managerID;
 
     public SearchFunction(PaginationService pagination, ItemManagerService itemManager, UUID managerID) {
+        this(pagination, itemManager, managerID, JavaPlugin.getProvidingPlugin(SearchFunction.class), SearchExecutor.getInstance());
+    }
+
+    public SearchFunction(PaginationService pagination, ItemManagerService itemManager, UUID managerID, Plugin plugin, SearchExecutor searchExecutor) {
+        this(pagination, itemManager, managerID, plugin, searchExecutor, SearchSessionRegistry.DEFAULT_TTL_MILLIS);
+    }
+
+    public SearchFunction(PaginationService pagination, ItemManagerService itemManager, UUID managerID, Plugin plugin, SearchExecutor searchExecutor, long sessionTtlMillis) {
         this.pagination = pagination;
         this.itemManager = itemManager;
         this.managerID = managerID;
+        this.plugin = plugin;
+        this.searchExecutor = searchExecutor;
+        this.sessions = new SearchSessionRegistry(searchExecutor.getScheduler(), sessionTtlMillis);
     }
 
     public ItemStack createSearchButton() {
-        ItemStack searchButton = new ItemStack(Material.COMPASS);
-        ItemMeta meta = searchButton.getItemMeta();
-        meta.setDisplayName("Search");
-        searchButton.setItemMeta(meta);
-        return searchButton;
+        return ButtonTemplates.search();
     }
 
     @EventHandler
@@ -53,43 +75,66 @@ public class SearchFunction implements Listener {
         if (!(event.getWhoClicked() instanceof Player)) return;
         Player player = (Player) event.getWhoClicked();
         if (event.getCurrentItem() != null && event.getCurrentItem().getType() == Material.COMPASS) {
-            playerInSearchMode = player.getUniqueId();
+            sessions.start(player.getUniqueId());
             player.closeInventory();
-            player.sendMessage(ChatColor.GREEN + "Type 'name' to search by item name or 'lore' to search by item lore.");
+            player.sendMessage(ChatColor.GREEN + "Type 'name' to search by item name, 'lore' to search by item lore or 'prefix' to search by the start of a word.");
         }
     }
 
     @EventHandler
-    public void onPlayerChat(AsyncPlayerChatEvent event) throws ExecutionException, InterruptedException {
-        if (playerInSearchMode == null || !event.getPlayer().getUniqueId().equals(playerInSearchMode)) return;
+    public void onPlayerChat(AsyncPlayerChatEvent event) {
+        SearchSession session = sessions.get(event.getPlayer().getUniqueId());
+        if (session == null) return;
 
         event.setCancelled(true);
         String message = event.getMessage().toLowerCase();
 
-        if (currentSearchType == SearchType.NONE) {
-            handleInitialSearchType(event, message);
+        if (session.getSearchType() == SearchType.NONE) {
+            handleInitialSearchType(event, session, message);
         } else {
-            handleItemSearch(event, message);
+            handleItemSearch(event, session, message);
         }
     }
 
-    private void handleInitialSearchType(AsyncPlayerChatEvent event, String message) {
-        if (message.equals("name") || message.equals("lore")) {
-            currentSearchType = message.equals("name") ? SearchType.NAME : SearchType.LORE;
-            event.getPlayer().sendMessage(ChatColor.GREEN + "Type the item " + currentSearchType.name().toLowerCase() + " in the chat.");
+    private void handleInitialSearchType(AsyncPlayerChatEvent event, SearchSession session, String message) {
+        if (message.equals("name") || message.equals("lore") || message.equals("prefix")) {
+            session.setSearchType(message.equals("name") ? SearchType.NAME : message.equals("lore") ? SearchType.LORE : SearchType.PREFIX);
+            sessions.touch(session);
+            event.getPlayer().sendMessage(ChatColor.GREEN + "Type the item " + session.getSearchType().name().toLowerCase() + " in the chat.");
         } else {
-            event.getPlayer().sendMessage(ChatColor.RED + "Invalid search type! Type 'name' or 'lore'.");
+            event.getPlayer().sendMessage(ChatColor.RED + "Invalid search type! Type 'name', 'lore' or 'prefix'.");
         }
     }
 
-    private void handleItemSearch(AsyncPlayerChatEvent event, String query) throws ExecutionException, InterruptedException {
-        boolean found = SearchUtils.searchItems(itemManager, pagination, currentSearchType, event.getPlayer(), query,managerID);
-        event.getPlayer().sendMessage(found ? ChatColor.GREEN + "Result found. Please open the menu again!" : ChatColor.RED + "Result not found!");
-        resetSearch();
+    private void handleItemSearch(AsyncPlayerChatEvent event, SearchSession session, String query) {
+        Player player = event.getPlayer();
+        SearchType searchType = session.getSearchType();
+        sessions.end(player.getUniqueId());
+
+        searchExecutor.submit(player.getUniqueId(), () -> SearchUtils.findFirstMatch(itemManager, searchType, query, managerID))
+                .whenComplete((position, error) -> Bukkit.getScheduler().runTask(plugin, () -> completeSearch(player, position, error)));
+    }
+
+    private void completeSearch(Player player, Integer position, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof CancellationException || !player.isOnline()) return;
+        if (cause instanceof TimeoutException) {
+            player.sendMessage(ChatColor.RED + "Search took too long, please try again!");
+            return;
+        }
+        if (cause instanceof RejectedExecutionException) {
+            player.sendMessage(ChatColor.RED + "Search is busy, please try again in a moment!");
+            return;
+        }
+
+        boolean found = cause == null && position != null && position >= 0;
+        if (found) {
+            pagination.openPageForPlayer(player.getUniqueId(), position / pagination.getPageSize());
+        }
+        player.sendMessage(found ? ChatColor.GREEN + "Result found. Please open the menu again!" : ChatColor.RED + "Result not found!");
     }
 
-    private void resetSearch() {
-        currentSearchType = SearchType.NONE;
-        playerInSearchMode = null;
+    public void shutdown() {
+        sessions.clear();
     }
 }
@@ -0,0 +1,45 @@
+package beta.com.paginationapi.search;
+
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * The SearchSession class holds the search state of a single player between clicking the search button and typing the query.
+ *
+ * Sessions are created and expired by a SearchSessionRegistry. The search type may be read and written from different threads,
+ * as the click arrives on the main thread and the chat messages arrive on the async chat thread.
+ */
+
+public class SearchSession {
+    private final UUID playerId;
+    private volatile SearchType searchType = SearchType.NONE;
+    private ScheduledFuture<?> expiry;
+
+    SearchSession(UUID playerId) {
+        this.playerId = playerId;
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    public SearchType getSearchType() {
+        return searchType;
+    }
+
+    public void setSearchType(SearchType searchType) {
+        this.searchType = searchType;
+    }
+
+    synchronized void scheduleExpiry(ScheduledFuture<?> expiry) {
+        cancelExpiry();
+        this.expiry = expiry;
+    }
+
+    synchronized void cancelExpiry() {
+        if (expiry != null) {
+            expiry.cancel(false);
+            expiry = null;
+        }
+    }
+}
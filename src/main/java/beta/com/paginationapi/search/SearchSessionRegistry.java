@@ -0,0 +1,80 @@
+package beta.com.paginationapi.search;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The SearchSessionRegistry class keeps the SearchSession of every player that is currently searching, keyed by player UUID.
+ *
+ * Any number of players can search at the same time without overwriting each other's state.
+ * A session that is not finished within the configured time to live is removed by a timer task scheduled for that session alone,
+ * and the task is rescheduled whenever the session is used. Nothing ever scans the registry, so abandoned sessions cost nothing
+ * until they expire, and memory stays proportional to the number of players actually searching.
+ *
+ * Usage:
+ * SearchSessionRegistry sessions = new SearchSessionRegistry(scheduler, 60000L);
+ * SearchSession session = sessions.start(playerId);
+ * session.setSearchType(SearchType.NAME);
+ * sessions.touch(session);
+ * sessions.end(playerId);
+ */
+
+public class SearchSessionRegistry {
+    public static final long DEFAULT_TTL_MILLIS = 60000L;
+
+    private final ConcurrentMap<UUID, SearchSession> sessions = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final long ttlMillis;
+
+    public SearchSessionRegistry(ScheduledExecutorService scheduler, long ttlMillis) {
+        if (ttlMillis <= 0) {
+            throw new IllegalArgumentException("Session time to live must be greater than 0");
+        }
+        this.scheduler = scheduler;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public SearchSession start(UUID playerId) {
+        SearchSession session = new SearchSession(playerId);
+        SearchSession previous = sessions.put(playerId, session);
+        if (previous != null) {
+            previous.cancelExpiry();
+        }
+        touch(session);
+        return session;
+    }
+
+    public SearchSession get(UUID playerId) {
+        return sessions.get(playerId);
+    }
+
+    public void touch(SearchSession session) {
+        session.scheduleExpiry(scheduler.schedule(() -> {
+            sessions.remove(session.getPlayerId(), session);
+        }, ttlMillis, TimeUnit.MILLISECONDS));
+    }
+
+    public void end(UUID playerId) {
+        SearchSession session = sessions.remove(playerId);
+        if (session != null) {
+            session.cancelExpiry();
+        }
+    }
+
+    public void clear() {
+        for (UUID playerId : sessions.keySet()) {
+            end(playerId);
+        }
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+}
@@ -5,11 +5,13 @@ package beta.com.paginationapi.search;
  * <p>
  * {@code NAME}: Represents searching by item name.
  * {@code LORE}: Represents searching by item lore.
+ * {@code PREFIX}: Represents searching for words of the item name or lore that start with the query.
  * {@code NONE}: Represents no specific search criteria.
  */
 
 public enum SearchType {
     NAME,
     LORE,
+    PREFIX,
     NONE
 }
\ No newline at end of file
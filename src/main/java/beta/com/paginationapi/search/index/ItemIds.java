@@ -0,0 +1,111 @@
+package beta.com.paginationapi.search.index;
+
+import java.util.Arrays;
+
+/**
+ * The ItemIds class hands out the stable ids a SearchIndex files its items under, and turns them back into item positions.
+ *
+ * Ids are given out in increasing order as items are appended, so the order of the ids is the order of the items. Removing an item
+ * only marks its id as dead; the ids of the items after it do not change, so the posting lists of other words need no update.
+ * The position of an item is the number of live ids before its own, and the id at a position is the id with that many live ids before it.
+ * Both are read from a Fenwick tree over the ids in O(log n).
+ *
+ * Dead ids are dropped by compact, which renumbers the live ids from zero without changing their order. SearchIndex calls it once
+ * the dead ids outnumber the live ones, so the cost of renumbering its posting lists is spread over the removals that caused it.
+ *
+ * The class is not thread-safe on its own; SearchIndex guards every access with its lock.
+ */
+
+class ItemIds {
+    static final int MIN_COMPACTION_DEAD = 64;
+
+    private boolean[] live = new boolean[16];
+    private int[] tree = new int[17];
+    private int size;
+    private int liveCount;
+
+    int add() {
+        if (size == live.length) {
+            live = Arrays.copyOf(live, size * 2);
+            rebuild();
+        }
+        int id = size++;
+        live[id] = true;
+        liveCount++;
+        update(id, 1);
+        return id;
+    }
+
+    void remove(int id) {
+        if (id < 0 || id >= size || !live[id]) return;
+        live[id] = false;
+        liveCount--;
+        update(id, -1);
+    }
+
+    int position(int id) {
+        int position = 0;
+        for (int i = id; i > 0; i -= i & -i) {
+            position += tree[i];
+        }
+        return position;
+    }
+
+    int idAt(int position) {
+        if (position < 0 || position >= liveCount) return -1;
+        int id = 0;
+        int remaining = position + 1;
+        for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+            int next = id + step;
+            if (next < tree.length && tree[next] < remaining) {
+                id = next;
+                remaining -= tree[next];
+            }
+        }
+        return id;
+    }
+
+    int liveCount() {
+        return liveCount;
+    }
+
+    boolean needsCompaction() {
+        int dead = size - liveCount;
+        return dead >= MIN_COMPACTION_DEAD && dead > liveCount;
+    }
+
+    int[] compact() {
+        int[] newIds = new int[size];
+        int kept = 0;
+        for (int id = 0; id < size; id++) {
+            newIds[id] = live[id] ? kept++ : -1;
+        }
+        Arrays.fill(live, 0, size, false);
+        Arrays.fill(live, 0, kept, true);
+        size = kept;
+        rebuild();
+        return newIds;
+    }
+
+    void clear() {
+        live = new boolean[16];
+        tree = new int[17];
+        size = 0;
+        liveCount = 0;
+    }
+
+    private void update(int id, int delta) {
+        for (int i = id + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private void rebuild() {
+        tree = new int[live.length + 1];
+        for (int i = 1; i < tree.length; i++) {
+            if (live[i - 1]) tree[i]++;
+            int parent = i + (i & -i);
+            if (parent < tree.length) tree[parent] += tree[i];
+        }
+    }
+}
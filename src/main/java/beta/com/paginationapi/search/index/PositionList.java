@@ -0,0 +1,74 @@
+package beta.com.paginationapi.search.index;
+
+import java.util.Arrays;
+
+/**
+ * The PositionList class is a sorted, duplicate-free list of item ids backed by a primitive int array.
+ *
+ * It is the posting list of a single token in a SearchIndex. It holds the stable ids from ItemIds rather than item positions,
+ * so removing an item only touches the lists of that item's own words; SearchIndex turns ids into positions when it answers a query.
+ * Ids are appended in increasing order while a manager is filled, which makes add an amortized O(1) append in the common case.
+ *
+ * The class is not thread-safe on its own; SearchIndex guards every access with its lock.
+ */
+
+class PositionList {
+    private int[] positions = new int[4];
+    private int size;
+
+    void add(int position) {
+        if (size > 0 && positions[size - 1] >= position) {
+            int index = Arrays.binarySearch(positions, 0, size, position);
+            if (index >= 0) return;
+            insertAt(-index - 1, position);
+            return;
+        }
+        if (size == positions.length) {
+            positions = Arrays.copyOf(positions, size * 2);
+        }
+        positions[size++] = position;
+    }
+
+    void remove(int position) {
+        int index = Arrays.binarySearch(positions, 0, size, position);
+        if (index < 0) return;
+        System.arraycopy(positions, index + 1, positions, index, size - index - 1);
+        size--;
+    }
+
+    void remap(int[] newIds) {
+        for (int i = 0; i < size; i++) {
+            positions[i] = newIds[positions[i]];
+        }
+    }
+
+    int first() {
+        return size == 0 ? -1 : positions[0];
+    }
+
+    int copyTo(int[] target, int offset) {
+        System.arraycopy(positions, 0, target, offset, size);
+        return offset + size;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(positions, size);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void insertAt(int index, int position) {
+        if (size == positions.length) {
+            positions = Arrays.copyOf(positions, size * 2);
+        }
+        System.arraycopy(positions, index, positions, index + 1, size - index);
+        positions[index] = position;
+        size++;
+    }
+}
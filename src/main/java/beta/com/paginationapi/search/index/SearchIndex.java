@@ -0,0 +1,305 @@
+package beta.com.paginationapi.search.index;
+
+import beta.com.paginationapi.itemmanager.ItemManager;
+import beta.com.paginationapi.itemmanager.ItemManagerListener;
+import beta.com.paginationapi.itemmanager.ItemSnapshot;
+import beta.com.paginationapi.search.SearchType;
+import org.bukkit.ChatColor;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The SearchIndex class is an inverted index from words to item positions for a single ItemManager.
+ *
+ * It keeps one index for item names and one for item lore. Words are produced the same way the linear search always did it:
+ * colors are stripped, the text is lower-cased and split on spaces. The index is built once from the manager's snapshot and then
+ * follows the manager as an ItemManagerListener, so adding, removing or clearing items only touches the words of the affected item
+ * instead of re-reading the whole catalog. Looking up a word is a single hash lookup.
+ *
+ * The posting lists hold a stable id per item from ItemIds instead of its position. Removing an item leaves the ids of all later items
+ * unchanged, so a removal only takes that item's id out of the lists of its own words, and the positions of the matches are
+ * resolved through ItemIds when a query is answered. The words an id was filed under are kept with the id, so the id is always
+ * removed from exactly those lists, even if the ItemStack was changed in place in the meantime.
+ *
+ * Every word is also kept in a TokenTrie, which answers SearchType.PREFIX lookups: the query matches an item if any word of its
+ * name or lore starts with it. The trie shares its posting lists with the word index, so it only has to be told when a word
+ * appears for the first time or disappears entirely.
+ *
+ * Indexes are created lazily by forManager and are held weakly per ItemManager, so a manager that is dropped takes its index with it.
+ * Lookups may run on any thread and run in parallel; updates take the write lock.
+ *
+ * Usage:
+ * SearchIndex index = SearchIndex.forManager(itemManager);
+ * int position = index.firstPosition(SearchType.NAME, "sword"); // -1 if no item name contains the word
+ * int prefixPosition = index.firstPosition(SearchType.PREFIX, "sw"); // -1 if no word of a name or lore starts with "sw"
+ */
+
+public class SearchIndex implements ItemManagerListener {
+    private static final Map<ItemManager, SearchIndex> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<String, PositionList> nameIndex = new HashMap<>();
+    private final Map<String, PositionList> loreIndex = new HashMap<>();
+    private final TokenTrie prefixIndex = new TokenTrie();
+    private final ItemIds ids = new ItemIds();
+    private String[][] nameWords = new String[16][];
+    private String[][] loreWords = new String[16][];
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private SearchIndex() {
+    }
+
+    public static SearchIndex forManager(ItemManager itemManager) {
+        SearchIndex index = INDEXES.get(itemManager);
+        if (index != null) return index;
+        synchronized (INDEXES) {
+            index = INDEXES.get(itemManager);
+            if (index == null) {
+                index = new SearchIndex();
+                index.attach(itemManager);
+                INDEXES.put(itemManager, index);
+            }
+            return index;
+        }
+    }
+
+    public int firstPosition(SearchType searchType, String word) {
+        lock.readLock().lock();
+        try {
+            int id;
+            if (searchType == SearchType.PREFIX) {
+                id = prefixIndex.firstPosition(word);
+            } else {
+                PositionList positions = indexFor(searchType).get(word);
+                id = positions == null ? -1 : positions.first();
+            }
+            return id < 0 ? -1 : ids.position(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int[] positions(SearchType searchType, String word) {
+        lock.readLock().lock();
+        try {
+            int[] matches;
+            if (searchType == SearchType.PREFIX) {
+                matches = prefixIndex.positions(word);
+            } else {
+                PositionList positions = indexFor(searchType).get(word);
+                matches = positions == null ? new int[0] : positions.toArray();
+            }
+            for (int i = 0; i < matches.length; i++) {
+                matches[i] = ids.position(matches[i]);
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void onItemAdded(int position, ItemStack item) {
+        lock.writeLock().lock();
+        try {
+            index(item);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onItemRemoved(int position, ItemStack item) {
+        lock.writeLock().lock();
+        try {
+            int id = ids.idAt(position);
+            if (id < 0) return;
+            unindex(id);
+            ids.remove(id);
+            if (ids.needsCompaction()) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onItemReplaced(int position, ItemStack oldItem, ItemStack newItem) {
+        lock.writeLock().lock();
+        try {
+            int id = ids.idAt(position);
+            if (id < 0) return;
+            unindex(id);
+            index(id, newItem);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onItemsAdded(int position, List<ItemStack> items) {
+        lock.writeLock().lock();
+        try {
+            for (ItemStack item : items) {
+                index(item);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onItemsReset(ItemSnapshot snapshot) {
+        lock.writeLock().lock();
+        try {
+            clear();
+            for (ItemStack item : snapshot.getItems()) {
+                index(item);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onItemsCleared() {
+        lock.writeLock().lock();
+        try {
+            clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Set<String> words(ItemMeta meta, SearchType searchType) {
+        String target;
+        if (searchType == SearchType.NAME) {
+            target = meta.getDisplayName();
+        } else {
+            List<String> lore = meta.getLore();
+            target = lore == null ? null : String.join(" ", lore);
+        }
+        if (target == null) return Collections.emptySet();
+
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : ChatColor.stripColor(target).toLowerCase().split(" ")) {
+            if (!word.isEmpty()) words.add(word);
+        }
+        return words;
+    }
+
+    private void attach(ItemManager itemManager) {
+        lock.writeLock().lock();
+        try {
+            ItemSnapshot snapshot = itemManager.addListener(this);
+            for (ItemStack item : snapshot.getItems()) {
+                index(item);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Items are only ever appended, so the next id always belongs to the last position.
+    private void index(ItemStack item) {
+        int id = ids.add();
+        if (id == nameWords.length) {
+            nameWords = Arrays.copyOf(nameWords, id * 2);
+            loreWords = Arrays.copyOf(loreWords, id * 2);
+        }
+        index(id, item);
+    }
+
+    private void index(int id, ItemStack item) {
+        nameWords[id] = null;
+        loreWords[id] = null;
+        if (item == null || !item.hasItemMeta()) return;
+        ItemMeta meta = item.getItemMeta();
+        nameWords[id] = index(SearchType.NAME, words(meta, SearchType.NAME), id);
+        loreWords[id] = index(SearchType.LORE, words(meta, SearchType.LORE), id);
+    }
+
+    private String[] index(SearchType searchType, Set<String> words, int id) {
+        if (words.isEmpty()) return null;
+        for (String word : words) {
+            positionsFor(searchType, word).add(id);
+        }
+        return words.toArray(new String[0]);
+    }
+
+    private void unindex(int id) {
+        unindex(SearchType.NAME, nameWords[id], id);
+        unindex(SearchType.LORE, loreWords[id], id);
+        nameWords[id] = null;
+        loreWords[id] = null;
+    }
+
+    private void unindex(SearchType searchType, String[] words, int id) {
+        if (words == null) return;
+        Map<String, PositionList> index = indexFor(searchType);
+        for (String word : words) {
+            PositionList positions = index.get(word);
+            if (positions == null) continue;
+            positions.remove(id);
+            if (positions.isEmpty()) {
+                index.remove(word);
+                prefixIndex.remove(word, searchType);
+            }
+        }
+    }
+
+    private PositionList positionsFor(SearchType searchType, String word) {
+        Map<String, PositionList> index = indexFor(searchType);
+        PositionList positions = index.get(word);
+        if (positions == null) {
+            positions = new PositionList();
+            index.put(word, positions);
+            prefixIndex.put(word, searchType, positions);
+        }
+        return positions;
+    }
+
+    private void compact() {
+        int[] newIds = ids.compact();
+        for (PositionList positions : nameIndex.values()) {
+            positions.remap(newIds);
+        }
+        for (PositionList positions : loreIndex.values()) {
+            positions.remap(newIds);
+        }
+        String[][] names = new String[nameWords.length][];
+        String[][] lore = new String[loreWords.length][];
+        for (int id = 0; id < newIds.length; id++) {
+            if (newIds[id] >= 0) {
+                names[newIds[id]] = nameWords[id];
+                lore[newIds[id]] = loreWords[id];
+            }
+        }
+        nameWords = names;
+        loreWords = lore;
+    }
+
+    private void clear() {
+        nameIndex.clear();
+        loreIndex.clear();
+        prefixIndex.clear();
+        ids.clear();
+        nameWords = new String[16][];
+        loreWords = new String[16][];
+    }
+
+    private Map<String, PositionList> indexFor(SearchType searchType) {
+        return searchType == SearchType.NAME ? nameIndex : loreIndex;
+    }
+}
@@ -0,0 +1,173 @@
+package beta.com.paginationapi.search.index;
+
+import beta.com.paginationapi.search.SearchType;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * The TokenTrie class is a compact character trie over the words of a SearchIndex, used for "starts with" lookups.
+ *
+ * Each node keeps its children in a sorted char array, so walking a prefix costs one binary search per character.
+ * A node that ends a word points at the very PositionList objects the SearchIndex keeps for that word, one for names and one for lore.
+ * The trie therefore never stores item ids of its own: it sees every change to those lists for free, and it only has to be told
+ * when a word appears for the first time or disappears entirely. Like the lists, it answers with item ids, which SearchIndex turns into positions.
+ *
+ * A prefix lookup costs time proportional to the prefix length plus the size of the matching subtree, independent of the catalog size.
+ * Collecting all matches sorts the gathered ids once, so it costs O(R log R) in the number of results R.
+ *
+ * The class is not thread-safe on its own; SearchIndex guards every access with its lock.
+ */
+
+class TokenTrie {
+    private Node root = new Node();
+
+    void put(String word, SearchType searchType, PositionList positions) {
+        Node node = root;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.childOrCreate(word.charAt(i));
+        }
+        if (searchType == SearchType.NAME) {
+            node.namePositions = positions;
+        } else {
+            node.lorePositions = positions;
+        }
+    }
+
+    void remove(String word, SearchType searchType) {
+        Node[] path = new Node[word.length() + 1];
+        Node node = root;
+        path[0] = node;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.child(word.charAt(i));
+            if (node == null) return;
+            path[i + 1] = node;
+        }
+        if (searchType == SearchType.NAME) {
+            node.namePositions = null;
+        } else {
+            node.lorePositions = null;
+        }
+        for (int i = word.length(); i > 0 && path[i].isUnused(); i--) {
+            path[i - 1].removeChild(word.charAt(i - 1));
+        }
+    }
+
+    void clear() {
+        root = new Node();
+    }
+
+    int firstPosition(String prefix) {
+        Node start = find(prefix);
+        if (start == null) return -1;
+        int first = -1;
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(start);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            first = min(first, node.namePositions);
+            first = min(first, node.lorePositions);
+            for (int i = 0; i < node.childCount; i++) {
+                stack.push(node.children[i]);
+            }
+        }
+        return first;
+    }
+
+    int[] positions(String prefix) {
+        Node start = find(prefix);
+        if (start == null) return new int[0];
+        // Gather the ids of all matching words into one buffer and sort it once, instead of merging list by list.
+        int[] buffer = new int[16];
+        int size = 0;
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(start);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            int needed = size + length(node.namePositions) + length(node.lorePositions);
+            if (needed > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(needed, buffer.length * 2));
+            }
+            size = copy(node.namePositions, buffer, size);
+            size = copy(node.lorePositions, buffer, size);
+            for (int i = 0; i < node.childCount; i++) {
+                stack.push(node.children[i]);
+            }
+        }
+        Arrays.sort(buffer, 0, size);
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || buffer[distinct - 1] != buffer[i]) {
+                buffer[distinct++] = buffer[i];
+            }
+        }
+        return Arrays.copyOf(buffer, distinct);
+    }
+
+    private Node find(String prefix) {
+        if (prefix == null || prefix.isEmpty()) return null;
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    private static int min(int current, PositionList positions) {
+        if (positions == null || positions.isEmpty()) return current;
+        int first = positions.first();
+        return current < 0 || first < current ? first : current;
+    }
+
+    private static int length(PositionList positions) {
+        return positions == null ? 0 : positions.size();
+    }
+
+    private static int copy(PositionList positions, int[] target, int offset) {
+        return positions == null ? offset : positions.copyTo(target, offset);
+    }
+
+    private static final class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private int childCount;
+        private PositionList namePositions;
+        private PositionList lorePositions;
+
+        private Node child(char key) {
+            int index = Arrays.binarySearch(keys, 0, childCount, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node childOrCreate(char key) {
+            int index = Arrays.binarySearch(keys, 0, childCount, key);
+            if (index >= 0) return children[index];
+            index = -index - 1;
+            if (childCount == keys.length) {
+                int capacity = Math.max(2, childCount * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(keys, index, keys, index + 1, childCount - index);
+            System.arraycopy(children, index, children, index + 1, childCount - index);
+            Node node = new Node();
+            keys[index] = key;
+            children[index] = node;
+            childCount++;
+            return node;
+        }
+
+        private void removeChild(char key) {
+            int index = Arrays.binarySearch(keys, 0, childCount, key);
+            if (index < 0) return;
+            System.arraycopy(keys, index + 1, keys, index, childCount - index - 1);
+            System.arraycopy(children, index + 1, children, index, childCount - index - 1);
+            children[--childCount] = null;
+        }
+
+        private boolean isUnused() {
+            return childCount == 0 && namePositions == null && lorePositions == null;
+        }
+    }
+}
@@ -3,13 +3,10 @@ package beta.com.paginationapi.search.utils;
 import beta.com.paginationapi.itemmanager.service.ItemManagerService;
 import beta.com.paginationapi.page.service.PaginationService;
 import beta.com.paginationapi.search.SearchType;
-import org.bukkit.ChatColor;
+import beta.com.paginationapi.search.index.SearchIndex;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
 
 import java.util.UUID;
-import java.util.concurrent.ExecutionException;
 
 /**
  * Utility class for searching items within a pagination system.
@@ -18,8 +15,10 @@ import java.util.concurrent.ExecutionException;
  * using the provided ItemManagerService to retrieve items and PaginationService for navigation.
  * It supports searching by item name or lore based on the current search type.
  * <p>
- * The search is performed by iterating through items retrieved from the ItemManagerService
- * and comparing the target (item name or lore) with the query using partial matching.
+ * The search looks the query up in the SearchIndex of the manager, an inverted index from words of the item names and lore
+ * to item positions that is kept up to date as items are added and removed. The query matches an item if it equals one of
+ * the words of the target (item name or lore), or for SearchType.PREFIX if any word of the name or lore starts with it.
+ * The first matching item in list order wins.
  * If a match is found, it opens the corresponding page for the player using PaginationService.
  * <p>
  * This class is designed for use in Bukkit/Spigot plugins, targeting players identified by UUIDs
@@ -32,25 +31,16 @@ import java.util.concurrent.ExecutionException;
 
 public class SearchUtils {
 
-    public static boolean searchItems(ItemManagerService itemManagerService, PaginationService pagination, SearchType currentSearchType, Player player, String query, UUID managerId) throws ExecutionException, InterruptedException {
-        for (int i = 0; i < itemManagerService.getItems(managerId).get().size(); i++) {
-            ItemStack item = itemManagerService.getItems(managerId).get().get(i);
-            if (item.hasItemMeta()) {
-                ItemMeta meta = item.getItemMeta();
-                String target = currentSearchType == SearchType.NAME ? meta.getDisplayName() : String.join(" ", meta.getLore());
-                if (target != null && isPartialMatch(ChatColor.stripColor(target).toLowerCase(), query)) {
-                    pagination.openPageForPlayer(player.getUniqueId(), i / pagination.getPageSize());
-                    return true;
-                }
-            }
-        }
-        return false;
+    public static boolean searchItems(ItemManagerService itemManagerService, PaginationService pagination, SearchType currentSearchType, Player player, String query, UUID managerId) {
+        int position = findFirstMatch(itemManagerService, currentSearchType, query, managerId);
+        if (position < 0) return false;
+        pagination.openPageForPlayer(player.getUniqueId(), position / pagination.getPageSize());
+        return true;
     }
 
-    private static boolean isPartialMatch(String str1, String str2) {
-        for (String word : str1.split(" ")) {
-            if (word.equals(str2)) return true;
-        }
-        return false;
+    public static int findFirstMatch(ItemManagerService itemManagerService, SearchType currentSearchType, String query, UUID managerId) {
+        if (currentSearchType == SearchType.NONE || query == null) return -1;
+        SearchIndex index = SearchIndex.forManager(itemManagerService.sync().getItemManager(managerId));
+        return index.firstPosition(currentSearchType, query);
     }
 }
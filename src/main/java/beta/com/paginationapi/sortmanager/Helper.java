@@ -8,12 +8,26 @@ import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class Helper<T> {
     private final HandleExceptions handleExceptions;
+    private final ParallelExecution parallelExecution;
 
     public Helper(HandleExceptions handleExceptions) {
+        this(handleExceptions, null);
+    }
+
+    public Helper(HandleExceptions handleExceptions, ParallelExecution parallelExecution) {
         this.handleExceptions = handleExceptions;
+        this.parallelExecution = parallelExecution;
+    }
+
+    public <R> R stream(List<T> items, Function<Stream<T>, R> pipeline) {
+        if (parallelExecution == null) {
+            return pipeline.apply(items.stream());
+        }
+        return parallelExecution.execute(items, pipeline);
     }
 
     public boolean validateList(List<T> items, String methodName) {
@@ -31,9 +45,9 @@ public class Helper<T> {
         }
 
         try {
-            return items.stream()
+            return stream(items, stream -> stream
                     .sorted(comparator)
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toList()));
         } catch (Exception e) {
             handleExceptions.handle(e, this.getClass().getSimpleName(), "sort");
             return Collections.emptyList();
@@ -47,9 +61,9 @@ public class Helper<T> {
         }
 
         try {
-            return items.stream()
+            return stream(items, stream -> stream
                     .filter(predicate)
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toList()));
         } catch (Exception e) {
             handleExceptions.handle(e, this.getClass().getSimpleName(), "filter");
             return Collections.emptyList();
@@ -0,0 +1,150 @@
+package beta.com.paginationapi.sortmanager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The OrderStatisticTree class is a balanced binary search tree (a treap) in which every node also knows the size of its subtree.
+ *
+ * Insertion and removal take O(log n) expected time, and so does finding the element at a given rank.
+ * Reading a range of k consecutive ranks takes O(log n + k), which is what SortedView uses to read a page without sorting anything.
+ *
+ * The comparator must be a total order over the stored elements: two distinct elements may never compare as equal.
+ * The class is not thread-safe on its own; SortedView guards every access with its lock.
+ *
+ * @param <E> the type of elements in the tree
+ */
+
+class OrderStatisticTree<E> {
+    private final Comparator<? super E> comparator;
+    private Node<E> root;
+    private Node<E> splitLeft;
+    private Node<E> splitRight;
+
+    OrderStatisticTree(Comparator<? super E> comparator) {
+        this.comparator = comparator;
+    }
+
+    void add(E element) {
+        split(root, element);
+        Node<E> left = splitLeft;
+        Node<E> right = splitRight;
+        splitLeft = null;
+        splitRight = null;
+        root = merge(merge(left, new Node<>(element)), right);
+    }
+
+    boolean remove(E element) {
+        int before = size();
+        root = remove(root, element);
+        return size() < before;
+    }
+
+    E get(int rank) {
+        Node<E> node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (rank < leftSize) {
+                node = node.left;
+            } else if (rank == leftSize) {
+                return node.element;
+            } else {
+                rank -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        throw new IndexOutOfBoundsException("Rank: " + rank);
+    }
+
+    List<E> range(int fromRank, int toRank) {
+        List<E> result = new ArrayList<>(Math.max(0, toRank - fromRank));
+        collect(root, 0, fromRank, toRank, result);
+        return result;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    void clear() {
+        root = null;
+    }
+
+    private void collect(Node<E> node, int offset, int fromRank, int toRank, List<E> result) {
+        if (node == null || offset >= toRank || offset + node.size <= fromRank) return;
+        int rank = offset + size(node.left);
+        collect(node.left, offset, fromRank, toRank, result);
+        if (rank >= fromRank && rank < toRank) {
+            result.add(node.element);
+        }
+        collect(node.right, rank + 1, fromRank, toRank, result);
+    }
+
+    private Node<E> remove(Node<E> node, E element) {
+        if (node == null) return null;
+        int c = comparator.compare(element, node.element);
+        if (c == 0) return merge(node.left, node.right);
+        if (c < 0) {
+            node.left = remove(node.left, element);
+        } else {
+            node.right = remove(node.right, element);
+        }
+        node.update();
+        return node;
+    }
+
+    // Splits the subtree into the elements before the given one, left in splitLeft, and the rest, left in splitRight.
+    private void split(Node<E> node, E element) {
+        if (node == null) {
+            splitLeft = null;
+            splitRight = null;
+            return;
+        }
+        if (comparator.compare(node.element, element) < 0) {
+            split(node.right, element);
+            node.right = splitLeft;
+            node.update();
+            splitLeft = node;
+        } else {
+            split(node.left, element);
+            node.left = splitRight;
+            node.update();
+            splitRight = node;
+        }
+    }
+
+    private Node<E> merge(Node<E> left, Node<E> right) {
+        if (left == null) return right;
+        if (right == null) return left;
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<E> {
+        private final E element;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private int size = 1;
+        private Node<E> left;
+        private Node<E> right;
+
+        private Node(E element) {
+            this.element = element;
+        }
+
+        private void update() {
+            size = 1 + size(left) + size(right);
+        }
+    }
+}
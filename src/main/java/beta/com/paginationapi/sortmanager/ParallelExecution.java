@@ -0,0 +1,73 @@
+package beta.com.paginationapi.sortmanager;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * The ParallelExecution class decides whether a stream pipeline of SortFilter, SortFilterManager or Helper runs sequentially
+ * or in parallel, and owns the pool the parallel pipelines run on.
+ *
+ * Lists smaller than the threshold always run sequentially, because splitting and merging costs more than it saves on small inputs.
+ * Lists of at least the threshold run as a parallel stream inside a dedicated ForkJoinPool, so bulk operations never occupy
+ * the common pool that the server and other plugins share.
+ *
+ * Parallel pipelines keep the encounter order of the list, so filter, map, distinct and sort return exactly what the sequential
+ * pipeline returns, and sorting stays stable.
+ *
+ * Parallel execution is opt-in: the classes of this package run sequentially unless they are created with a ParallelExecution.
+ *
+ * Usage:
+ * ParallelExecution parallel = new ParallelExecution(50000, 4);
+ * SortFilter<ItemStack> sortFilter = new SortFilter<>(parallel);
+ * List<ItemStack> sorted = sortFilter.sort(items, byPrice); // parallel for 50000 items or more
+ * parallel.shutdown(); // on plugin disable
+ */
+
+public class ParallelExecution {
+    public static final int DEFAULT_THRESHOLD = 50000;
+
+    private final int threshold;
+    private final ForkJoinPool pool;
+
+    public ParallelExecution() {
+        this(DEFAULT_THRESHOLD, Runtime.getRuntime().availableProcessors());
+    }
+
+    public ParallelExecution(int threshold, int parallelism) {
+        if (threshold <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("Threshold and parallelism must be greater than 0");
+        }
+        this.threshold = threshold;
+        this.pool = new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("PaginationAPI-Sort-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    public boolean isParallel(List<?> items) {
+        return items.size() >= threshold;
+    }
+
+    public <T, R> R execute(List<T> items, Function<Stream<T>, R> pipeline) {
+        if (!isParallel(items)) {
+            return pipeline.apply(items.stream());
+        }
+        return pool.submit(() -> pipeline.apply(items.parallelStream())).join();
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
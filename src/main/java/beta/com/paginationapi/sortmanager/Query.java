@@ -0,0 +1,171 @@
+package beta.com.paginationapi.sortmanager;
+
+import beta.com.paginationapi.sortmanager.utils.PartialSort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * The Query class is a lazily evaluated filter, sort, skip and limit pipeline over a list.
+ *
+ * Calling filter, sorted, skip, limit or page only records the stage; nothing is computed until toList is called.
+ * The stages always take effect in the order they were called. skip and limit narrow a window over what the earlier stages produced,
+ * so limit(5).skip(2) keeps three elements, and a filter or sort recorded after a window only sees the elements inside it:
+ * page(2, 45).sorted(byPrice) sorts the 45 elements of the second page, it does not return the second page of the sorted list.
+ *
+ * Consecutive filter and sorted calls, up to the next skip, limit or page, form one segment, which is fused into a single pass:
+ * - Without a sort, elements are filtered and skipped on the fly and the pass stops as soon as the window is full.
+ * - With a sort and a limit, the filtered elements are streamed through a bounded heap (see PartialSort), so only
+ *   skip + limit elements are ever held and the full sorted list is never built.
+ * - With a sort and no limit, the filtered elements are collected once, sorted and the skipped head is dropped.
+ * No intermediate list is created inside a segment; only a filter or sort that follows a window starts a new segment over its result.
+ *
+ * Within a segment, filters are combined with logical AND. Comparators are combined the way consecutive stable sorts behave, as in
+ * Stream.sorted(a).sorted(b): the last sort decides the order and the earlier ones only break its ties, so sorted(a).sorted(b)
+ * sorts by b, then by a. A query therefore gives the same result as running SortFilter.filter, SortFilter.sort, SortFilter.skip and
+ * SortFilterManager.paginate in the same order.
+ *
+ * Usage:
+ * List<ItemStack> page = Query.from(items)
+ *         .filter(item -> item.getType() == Material.DIAMOND_SWORD)
+ *         .sorted(byPrice)
+ *         .page(2, 45)
+ *         .toList();
+ *
+ * @param <T> the type of objects in the list
+ */
+
+public class Query<T> {
+    private final List<T> items;
+    private final List<Segment<T>> segments = new ArrayList<>();
+    private Segment<T> current = new Segment<>();
+
+    private Query(List<T> items) {
+        this.items = items;
+    }
+
+    public static <T> Query<T> from(List<T> items) {
+        if (items == null) {
+            throw new IllegalArgumentException("Items cannot be null");
+        }
+        return new Query<>(items);
+    }
+
+    public Query<T> filter(Predicate<? super T> predicate) {
+        if (predicate == null) {
+            throw new IllegalArgumentException("Predicate cannot be null");
+        }
+        Segment<T> segment = open();
+        if (segment.filter == null) {
+            segment.filter = predicate;
+        } else {
+            Predicate<? super T> previous = segment.filter;
+            segment.filter = item -> previous.test(item) && predicate.test(item);
+        }
+        return this;
+    }
+
+    public Query<T> sorted(Comparator<? super T> next) {
+        if (next == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+        Segment<T> segment = open();
+        if (segment.comparator == null) {
+            segment.comparator = next;
+        } else {
+            Comparator<? super T> previous = segment.comparator;
+            segment.comparator = (a, b) -> {
+                int result = next.compare(a, b);
+                return result != 0 ? result : previous.compare(a, b);
+            };
+        }
+        return this;
+    }
+
+    public Query<T> skip(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Skip count must be non-negative");
+        }
+        current.windowed = true;
+        current.skip = (int) Math.min((long) current.skip + count, Integer.MAX_VALUE);
+        if (current.limit >= 0) {
+            current.limit = Math.max(0, current.limit - count);
+        }
+        return this;
+    }
+
+    public Query<T> limit(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Limit must be non-negative");
+        }
+        current.windowed = true;
+        current.limit = current.limit < 0 ? count : Math.min(current.limit, count);
+        return this;
+    }
+
+    public Query<T> page(int pageNumber, int pageSize) {
+        if (pageNumber <= 0 || pageSize <= 0) {
+            throw new IllegalArgumentException("Page number and page size must be greater than zero");
+        }
+        return skip((int) Math.min((long) (pageNumber - 1) * pageSize, Integer.MAX_VALUE)).limit(pageSize);
+    }
+
+    public List<T> toList() {
+        List<T> result = items;
+        for (Segment<T> segment : segments) {
+            result = segment.apply(result);
+        }
+        return current.apply(result);
+    }
+
+    // A filter or sort after a skip or limit must only see the window, so it starts a new segment.
+    private Segment<T> open() {
+        if (current.windowed) {
+            segments.add(current);
+            current = new Segment<>();
+        }
+        return current;
+    }
+
+    private static final class Segment<T> {
+        private Predicate<? super T> filter;
+        private Comparator<? super T> comparator;
+        private int skip;
+        private int limit = -1;
+        private boolean windowed;
+
+        private List<T> apply(List<T> items) {
+            if (limit == 0) return Collections.emptyList();
+            if (comparator == null) return scan(items);
+            if (limit > 0) {
+                int to = (int) Math.min((long) skip + limit, Integer.MAX_VALUE);
+                return PartialSort.range(items, filter, comparator, skip, to);
+            }
+
+            List<T> matches = new ArrayList<>();
+            for (T item : items) {
+                if (filter == null || filter.test(item)) matches.add(item);
+            }
+            matches.sort(comparator);
+            return skip == 0 ? matches : skip >= matches.size() ? Collections.emptyList() : new ArrayList<>(matches.subList(skip, matches.size()));
+        }
+
+        private List<T> scan(List<T> items) {
+            List<T> result = new ArrayList<>(limit > 0 ? Math.min(limit, items.size()) : Math.max(0, items.size() - skip));
+            int skipped = 0;
+            for (T item : items) {
+                if (filter != null && !filter.test(item)) continue;
+                if (skipped < skip) {
+                    skipped++;
+                    continue;
+                }
+                result.add(item);
+                if (result.size() == limit) break;
+            }
+            return result;
+        }
+    }
+}
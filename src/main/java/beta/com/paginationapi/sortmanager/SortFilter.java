@@ -1,11 +1,17 @@
 package beta.com.paginationapi.sortmanager;
 
 import beta.com.paginationapi.errorevents.HandleExceptions;
+import beta.com.paginationapi.sortmanager.utils.KeyedSort;
+import beta.com.paginationapi.sortmanager.utils.PrimitiveSort;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -17,6 +23,9 @@ import java.util.stream.Collectors;
  * Sorting Methods:
  * - {@link #sort(List, Comparator)}: Sorts the list using a single comparator.
  * - {@link #sort(List, Comparator...)}: Sorts the list using multiple comparators combined sequentially.
+ * - {@link #sortByKeys(List, SortKey...)} and {@link #sortByKeys(List, List)}: Sort the list by keys that are extracted once per item instead of once per comparison.
+ * - {@link #sortByInt(List, ToIntFunction, boolean)}, {@link #sortByLong(List, ToLongFunction, boolean)} and
+ *   {@link #sortByDouble(List, ToDoubleFunction, boolean)}: Sort the list by a numeric key with a radix sort, without boxing or comparators.
  * <p>
  * Filtering Methods:
  * - {@link #filter(List, Predicate)}: Filters the list based on a single predicate.
@@ -25,8 +34,14 @@ import java.util.stream.Collectors;
  * Combined Sorting and Filtering Methods:
  * - {@link #filterAndSort(List, Predicate, Comparator)}: Filters the list based on a predicate and then sorts it using a comparator.
  * - {@link #filterAndSort(List, Predicate...)}: Filters the list based on multiple predicates combined using logical AND.
+ * - {@link #filterAndSortByKeys(List, Predicate, SortKey...)} and {@link #filterAndSortByKeys(List, Predicate, List)}: Filter the list and then sort it by keys extracted once per item.
+ * <p>
+ * Lazy Queries:
+ * - {@link #query(List)}: Starts a fused filter, sort, skip and limit pipeline that only allocates the final page.
  * <p>
  * The class uses Java Streams and Collectors to process lists efficiently.
+ * When created with a ParallelExecution, lists above its size threshold are processed in parallel on its dedicated pool,
+ * with results identical to the sequential pipeline.
  * It returns an empty list and logs exceptions using HandleExceptions if input parameters are null or if exceptions occur during processing.
  *
  * @param <T> the type of objects in the list
@@ -40,8 +55,12 @@ public class SortFilter<T> {
     private final Helper<T> helper;
 
     public SortFilter() {
+        this(null);
+    }
+
+    public SortFilter(ParallelExecution parallelExecution) {
         this.handleExceptions = new HandleExceptions();
-        this.helper = new Helper<>(handleExceptions);
+        this.helper = new Helper<>(handleExceptions, parallelExecution);
     }
 
     public List<T> sort(List<T> items, Comparator<T> comparator) {
@@ -65,15 +84,65 @@ public class SortFilter<T> {
                 }
                 return 0;
             };
-            return items.stream()
+            return helper.stream(items, stream -> stream
                     .sorted(combinedComparator)
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toList()));
         } catch (Exception e) {
             handleExceptions.handle(e, this.getClass().getSimpleName(), "sort");
             return Collections.emptyList();
         }
     }
 
+    @SafeVarargs
+    public final List<T> sortByKeys(List<T> items, SortKey<T>... keys) {
+        List<SortKey<T>> keyList = null;
+        if (keys != null) {
+            keyList = new ArrayList<>(keys.length);
+            for (SortKey<T> key : keys) {
+                keyList.add(key);
+            }
+        }
+        return sortByKeys(items, keyList);
+    }
+
+    public List<T> sortByKeys(List<T> items, List<SortKey<T>> keys) {
+        if (!helper.validateList(items, "sortByKeys") || keys == null) {
+            handleExceptions.handle(new IllegalArgumentException("Items or keys cannot be null"), this.getClass().getSimpleName(), "sortByKeys");
+            return Collections.emptyList();
+        }
+
+        try {
+            return KeyedSort.sort(items, keys);
+        } catch (Exception e) {
+            handleExceptions.handle(e, this.getClass().getSimpleName(), "sortByKeys");
+            return Collections.emptyList();
+        }
+    }
+
+    public List<T> sortByInt(List<T> items, ToIntFunction<T> extractor, boolean descending) {
+        if (!helper.validateList(items, "sortByInt") || extractor == null) {
+            handleExceptions.handle(new IllegalArgumentException("Items or key extractor cannot be null"), this.getClass().getSimpleName(), "sortByInt");
+            return Collections.emptyList();
+        }
+        return helper.handleOperation(list -> PrimitiveSort.sortByInt(list, extractor, descending), items, "sortByInt", Collections.emptyList());
+    }
+
+    public List<T> sortByLong(List<T> items, ToLongFunction<T> extractor, boolean descending) {
+        if (!helper.validateList(items, "sortByLong") || extractor == null) {
+            handleExceptions.handle(new IllegalArgumentException("Items or key extractor cannot be null"), this.getClass().getSimpleName(), "sortByLong");
+            return Collections.emptyList();
+        }
+        return helper.handleOperation(list -> PrimitiveSort.sortByLong(list, extractor, descending), items, "sortByLong", Collections.emptyList());
+    }
+
+    public List<T> sortByDouble(List<T> items, ToDoubleFunction<T> extractor, boolean descending) {
+        if (!helper.validateList(items, "sortByDouble") || extractor == null) {
+            handleExceptions.handle(new IllegalArgumentException("Items or key extractor cannot be null"), this.getClass().getSimpleName(), "sortByDouble");
+            return Collections.emptyList();
+        }
+        return helper.handleOperation(list -> PrimitiveSort.sortByDouble(list, extractor, descending), items, "sortByDouble", Collections.emptyList());
+    }
+
     public List<T> filter(List<T> items, Predicate<T> predicate) {
         return helper.filter(items, predicate);
     }
@@ -94,9 +163,9 @@ public class SortFilter<T> {
                 }
                 return true;
             };
-            return items.stream()
+            return helper.stream(items, stream -> stream
                     .filter(combinedPredicate)
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toList()));
         } catch (Exception e) {
             handleExceptions.handle(e, this.getClass().getSimpleName(), "filter");
             return Collections.emptyList();
@@ -110,10 +179,10 @@ public class SortFilter<T> {
         }
 
         try {
-            return items.stream()
+            return helper.stream(items, stream -> stream
                     .filter(predicate)
                     .sorted(comparator)
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toList()));
         } catch (Exception e) {
             handleExceptions.handle(e, this.getClass().getSimpleName(), "filterAndSort");
             return Collections.emptyList();
@@ -137,9 +206,9 @@ public class SortFilter<T> {
                 return true;
             };
 
-            return items.stream()
+            return helper.stream(items, stream -> stream
                     .filter(combinedPredicate)
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toList()));
         } catch (Exception e) {
             handleExceptions.handle(e, this.getClass().getSimpleName(), "filterAndSort");
             return Collections.emptyList();
@@ -166,16 +235,42 @@ public class SortFilter<T> {
                 return 0;
             };
 
-            return items.stream()
+            return helper.stream(items, stream -> stream
                     .filter(combinedPredicate)
                     .sorted(combinedComparator)
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toList()));
         } catch (Exception e) {
             handleExceptions.handle(e, this.getClass().getSimpleName(), "filterAndSort");
             return Collections.emptyList();
         }
     }
 
+    @SafeVarargs
+    public final List<T> filterAndSortByKeys(List<T> items, Predicate<T> predicate, SortKey<T>... keys) {
+        List<SortKey<T>> keyList = null;
+        if (keys != null) {
+            keyList = new ArrayList<>(keys.length);
+            for (SortKey<T> key : keys) {
+                keyList.add(key);
+            }
+        }
+        return filterAndSortByKeys(items, predicate, keyList);
+    }
+
+    public List<T> filterAndSortByKeys(List<T> items, Predicate<T> predicate, List<SortKey<T>> keys) {
+        if (!helper.validateList(items, "filterAndSortByKeys") || predicate == null || keys == null) {
+            handleExceptions.handle(new IllegalArgumentException("Items, predicate, or keys cannot be null"), this.getClass().getSimpleName(), "filterAndSortByKeys");
+            return Collections.emptyList();
+        }
+
+        try {
+            return KeyedSort.sort(helper.filter(items, predicate), keys);
+        } catch (Exception e) {
+            handleExceptions.handle(e, this.getClass().getSimpleName(), "filterAndSortByKeys");
+            return Collections.emptyList();
+        }
+    }
+
     public List<T> reverseSort(List<T> items, Comparator<T> comparator) {
         if (!helper.validateList(items, "reverseSort") || comparator == null) {
             handleExceptions.handle(new IllegalArgumentException("Items or comparator cannot be null"), this.getClass().getSimpleName(), "reverseSort");
@@ -183,9 +278,9 @@ public class SortFilter<T> {
         }
 
         try {
-            return items.stream()
+            return helper.stream(items, stream -> stream
                     .sorted(comparator.reversed())
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toList()));
         } catch (Exception e) {
             handleExceptions.handle(e, this.getClass().getSimpleName(), "reverseSort");
             return Collections.emptyList();
@@ -202,4 +297,11 @@ public class SortFilter<T> {
                 .skip(start)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    public Query<T> query(List<T> items) {
+        if (!helper.validateList(items, "query")) {
+            return Query.from(Collections.emptyList());
+        }
+        return Query.from(items);
+    }
+}
@@ -0,0 +1,54 @@
+package beta.com.paginationapi.sortmanager;
+
+import java.util.Comparator;
+import java.util.function.Function;
+
+/**
+ * The SortKey class describes one sort criterion as a key extractor plus an order on the extracted keys.
+ *
+ * It is meant for keys that are expensive to compute, such as anything that needs {@code ItemStack.getItemMeta()} (which clones the meta),
+ * {@code getDisplayName()} or {@code ChatColor.stripColor}. A Comparator over the items would compute such a key twice per comparison,
+ * O(n log n) times per sort. Sorting with SortKeys instead extracts every key exactly once per item and compares the extracted keys
+ * (see KeyedSort and SortFilter.sortByKeys).
+ *
+ * Usage:
+ * SortKey<ItemStack> byName = SortKey.of(item -> ChatColor.stripColor(item.getItemMeta().getDisplayName()));
+ * SortKey<ItemStack> byAmountDescending = SortKey.of(ItemStack::getAmount).reversed();
+ * List<ItemStack> sorted = sortFilter.sortByKeys(items, byName, byAmountDescending);
+ *
+ * @param <T> the type of objects the key is extracted from
+ */
+
+public final class SortKey<T> {
+    private final Function<? super T, ?> extractor;
+    private final Comparator<Object> keyComparator;
+
+    @SuppressWarnings("unchecked")
+    private SortKey(Function<? super T, ?> extractor, Comparator<?> keyComparator) {
+        this.extractor = extractor;
+        this.keyComparator = (Comparator<Object>) keyComparator;
+    }
+
+    public static <T, K extends Comparable<? super K>> SortKey<T> of(Function<? super T, ? extends K> extractor) {
+        return of(extractor, Comparator.<K>naturalOrder());
+    }
+
+    public static <T, K> SortKey<T> of(Function<? super T, ? extends K> extractor, Comparator<? super K> keyComparator) {
+        if (extractor == null || keyComparator == null) {
+            throw new IllegalArgumentException("Key extractor and key comparator cannot be null");
+        }
+        return new SortKey<>(extractor, keyComparator);
+    }
+
+    public SortKey<T> reversed() {
+        return new SortKey<>(extractor, keyComparator.reversed());
+    }
+
+    public Object extract(T item) {
+        return extractor.apply(item);
+    }
+
+    public int compareKeys(Object a, Object b) {
+        return keyComparator.compare(a, b);
+    }
+}
@@ -0,0 +1,208 @@
+package beta.com.paginationapi.sortmanager;
+
+import beta.com.paginationapi.itemmanager.ItemManager;
+import beta.com.paginationapi.itemmanager.ItemManagerListener;
+import beta.com.paginationapi.itemmanager.ItemSnapshot;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The SortedView class keeps the items of an ItemManager permanently sorted by a comparator.
+ *
+ * A view is registered once for a manager and a comparator, sorts the current items a single time and from then on follows
+ * the manager as an ItemManagerListener. Every addItem or removeItem costs O(log n) in the view, and reading page N costs
+ * O(log n + pageSize), so frequently requested sorted pages never trigger a full re-sort.
+ *
+ * Items that compare as equal keep the order they have in the manager, the same result a stable sort of the manager's list would give.
+ * Every item gets a sequence number in manager order. A second tree ordered by that number finds the entry at a position in O(log n),
+ * so removals and edits always act on the item at the reported position, even when the same ItemStack instance is stored more than once,
+ * as it is for repeated adds of one stack or for items shared through an ItemInterner.
+ * Reads may run on any thread and run in parallel; updates take the write lock.
+ *
+ * Usage:
+ * SortedView byName = SortedView.register(itemManager, Comparator.comparing(item -> item.getItemMeta().getDisplayName()));
+ * List<ItemStack> firstPage = byName.getPage(1, 45);
+ * byName.unregister(); // when the view is no longer needed
+ */
+
+public class SortedView implements ItemManagerListener {
+    private final ItemManager itemManager;
+    private final OrderStatisticTree<Entry> tree;
+    private final OrderStatisticTree<Entry> bySequence = new OrderStatisticTree<>((a, b) -> Long.compare(a.sequence, b.sequence));
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long sequence;
+
+    private SortedView(ItemManager itemManager, Comparator<ItemStack> comparator) {
+        this.itemManager = itemManager;
+        this.tree = new OrderStatisticTree<>((a, b) -> {
+            int result = comparator.compare(a.item, b.item);
+            return result != 0 ? result : Long.compare(a.sequence, b.sequence);
+        });
+    }
+
+    public static SortedView register(ItemManager itemManager, Comparator<ItemStack> comparator) {
+        if (itemManager == null || comparator == null) {
+            throw new IllegalArgumentException("Item manager and comparator cannot be null");
+        }
+        SortedView view = new SortedView(itemManager, comparator);
+        view.lock.writeLock().lock();
+        try {
+            ItemSnapshot snapshot = itemManager.addListener(view);
+            for (ItemStack item : snapshot.getItems()) {
+                view.insert(item);
+            }
+        } finally {
+            view.lock.writeLock().unlock();
+        }
+        return view;
+    }
+
+    public void unregister() {
+        itemManager.removeListener(this);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tree.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public ItemStack get(int index) {
+        lock.readLock().lock();
+        try {
+            return tree.get(index).item;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<ItemStack> getPage(int pageNumber, int pageSize) {
+        if (pageNumber <= 0 || pageSize <= 0) {
+            throw new IllegalArgumentException("Page number and page size must be greater than zero");
+        }
+        int start = (pageNumber - 1) * pageSize;
+        return getRange(start, start + pageSize);
+    }
+
+    public List<ItemStack> toList() {
+        return getRange(0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void onItemAdded(int position, ItemStack item) {
+        lock.writeLock().lock();
+        try {
+            insert(item);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onItemRemoved(int position, ItemStack item) {
+        lock.writeLock().lock();
+        try {
+            if (position < 0 || position >= bySequence.size()) return;
+            Entry entry = bySequence.get(position);
+            bySequence.remove(entry);
+            tree.remove(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onItemReplaced(int position, ItemStack oldItem, ItemStack newItem) {
+        lock.writeLock().lock();
+        try {
+            if (position < 0 || position >= bySequence.size()) return;
+            Entry oldEntry = bySequence.get(position);
+            bySequence.remove(oldEntry);
+            tree.remove(oldEntry);
+            // Keep the old sequence so the edited item keeps its place among items that compare equal to it.
+            Entry entry = new Entry(newItem, oldEntry.sequence);
+            bySequence.add(entry);
+            tree.add(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onItemsAdded(int position, List<ItemStack> items) {
+        lock.writeLock().lock();
+        try {
+            for (ItemStack item : items) {
+                insert(item);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onItemsReset(ItemSnapshot snapshot) {
+        lock.writeLock().lock();
+        try {
+            tree.clear();
+            bySequence.clear();
+            for (ItemStack item : snapshot.getItems()) {
+                insert(item);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onItemsCleared() {
+        lock.writeLock().lock();
+        try {
+            tree.clear();
+            bySequence.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<ItemStack> getRange(int fromIndex, int toIndex) {
+        lock.readLock().lock();
+        try {
+            int end = Math.min(toIndex, tree.size());
+            if (fromIndex >= end) return Collections.emptyList();
+            List<Entry> range = tree.range(fromIndex, end);
+            ItemStack[] items = new ItemStack[range.size()];
+            for (int i = 0; i < items.length; i++) {
+                items[i] = range.get(i).item;
+            }
+            return Collections.unmodifiableList(Arrays.asList(items));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(ItemStack item) {
+        Entry entry = new Entry(item, sequence++);
+        tree.add(entry);
+        bySequence.add(entry);
+    }
+
+    private static final class Entry {
+        private final ItemStack item;
+        private final long sequence;
+
+        private Entry(ItemStack item, long sequence) {
+            this.item = item;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package beta.com.paginationapi.sortmanager.utils;
+
+import beta.com.paginationapi.sortmanager.SortKey;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The KeyedSort class sorts a list by SortKeys using the decorate-sort-undecorate pattern.
+ *
+ * For m keys and n items it calls each key extractor exactly n times and stores the keys in m parallel arrays.
+ * It then sorts an int array of positions with a stable merge sort that compares only the stored keys,
+ * and finally builds the result list from the sorted positions. The comparisons themselves create no garbage and never
+ * touch the items again, which matters when a key costs an ItemMeta clone or a color strip.
+ *
+ * The result is the same as a stable sort with a comparator that compares the keys in order.
+ * The keys can be given as varargs or as a List; the varargs form only copies its keys into a List.
+ *
+ * Usage:
+ * List<ItemStack> sorted = KeyedSort.sort(items, byName, byAmountDescending);
+ */
+
+public final class KeyedSort {
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private KeyedSort() {
+    }
+
+    @SafeVarargs
+    public static <T> List<T> sort(List<T> items, SortKey<T>... keys) {
+        List<SortKey<T>> keyList = new ArrayList<>(keys.length);
+        for (SortKey<T> key : keys) {
+            keyList.add(key);
+        }
+        return sort(items, keyList);
+    }
+
+    public static <T> List<T> sort(List<T> items, List<SortKey<T>> keyList) {
+        SortKey<?>[] keys = keyList.toArray(new SortKey<?>[0]);
+        int n = items.size();
+        Object[] elements = items.toArray();
+        Object[][] extracted = new Object[keys.length][n];
+        for (int k = 0; k < keys.length; k++) {
+            for (int i = 0; i < n; i++) {
+                extracted[k][i] = keys[k].extract(cast(elements[i]));
+            }
+        }
+
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        mergeSort(order, new int[n], 0, n, keys, extracted);
+
+        List<T> result = new ArrayList<>(n);
+        for (int position : order) {
+            result.add(cast(elements[position]));
+        }
+        return result;
+    }
+
+    private static void mergeSort(int[] order, int[] buffer, int from, int to, SortKey<?>[] keys, Object[][] extracted) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int value = order[i];
+                int j = i - 1;
+                while (j >= from && compare(order[j], value, keys, extracted) > 0) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = value;
+            }
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        mergeSort(order, buffer, from, middle, keys, extracted);
+        mergeSort(order, buffer, middle, to, keys, extracted);
+        if (compare(order[middle - 1], order[middle], keys, extracted) <= 0) return;
+
+        System.arraycopy(order, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < middle && compare(buffer[left], buffer[right], keys, extracted) <= 0)) {
+                order[i] = buffer[left++];
+            } else {
+                order[i] = buffer[right++];
+            }
+        }
+    }
+
+    private static int compare(int a, int b, SortKey<?>[] keys, Object[][] extracted) {
+        for (int k = 0; k < keys.length; k++) {
+            int result = keys[k].compareKeys(extracted[k][a], extracted[k][b]);
+            if (result != 0) return result;
+        }
+        return 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object element) {
+        return (T) element;
+    }
+}
@@ -0,0 +1,110 @@
+package beta.com.paginationapi.sortmanager.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * The PartialSort class returns a window of the sorted order of a list without sorting the whole list.
+ *
+ * To read the ranks [from, to) it keeps the best {@code to} elements seen so far in a bounded max-heap of positions and
+ * streams the list through it once, which costs O(n log k) with k = to instead of O(n log n), and never materializes the
+ * full sorted list. Elements that compare as equal are ordered by their position in the input, so the window is exactly the
+ * one a stable sort of the whole list would produce.
+ *
+ * An optional filter is applied in the same pass, so filtering, sorting and paging together still touch every element only once.
+ *
+ * Usage:
+ * List<ItemStack> secondPage = PartialSort.range(items, byPrice, 45, 90);
+ * List<ItemStack> firstSwords = PartialSort.range(items, isSword, byPrice, 0, 45);
+ */
+
+public final class PartialSort {
+
+    private PartialSort() {
+    }
+
+    public static <T> List<T> range(List<T> items, Comparator<? super T> comparator, int fromIndex, int toIndex) {
+        return range(items, null, comparator, fromIndex, toIndex);
+    }
+
+    public static <T> List<T> range(List<T> items, Predicate<? super T> filter, Comparator<? super T> comparator, int fromIndex, int toIndex) {
+        int n = items.size();
+        int k = Math.min(toIndex, n);
+        if (fromIndex >= k) return Collections.emptyList();
+
+        if (k == n && filter == null) {
+            List<T> sorted = new ArrayList<>(items);
+            sorted.sort(comparator);
+            return new ArrayList<>(sorted.subList(fromIndex, k));
+        }
+
+        Object[] elements = items.toArray();
+        int[] heap = new int[k];
+        int size = 0;
+        for (int i = 0; i < n; i++) {
+            if (filter != null && !filter.test(cast(elements[i]))) continue;
+            if (size < k) {
+                heap[size] = i;
+                siftUp(heap, size++, elements, comparator);
+            } else if (compare(elements, comparator, i, heap[0]) < 0) {
+                heap[0] = i;
+                siftDown(heap, size, elements, comparator);
+            }
+        }
+
+        if (fromIndex >= size) return Collections.emptyList();
+        Object[] window = new Object[size - fromIndex];
+        for (int rank = size - 1; rank >= fromIndex; rank--) {
+            window[rank - fromIndex] = elements[heap[0]];
+            heap[0] = heap[--size];
+            siftDown(heap, size, elements, comparator);
+        }
+        List<T> result = new ArrayList<>(window.length);
+        for (Object element : window) {
+            result.add(cast(element));
+        }
+        return result;
+    }
+
+    private static <T> int compare(Object[] elements, Comparator<? super T> comparator, int a, int b) {
+        int result = comparator.compare(PartialSort.<T>cast(elements[a]), PartialSort.<T>cast(elements[b]));
+        return result != 0 ? result : Integer.compare(a, b);
+    }
+
+    private static <T> void siftUp(int[] heap, int index, Object[] elements, Comparator<? super T> comparator) {
+        int value = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (compare(elements, comparator, value, heap[parent]) <= 0) break;
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    private static <T> void siftDown(int[] heap, int size, Object[] elements, Comparator<? super T> comparator) {
+        if (size == 0) return;
+        int index = 0;
+        int value = heap[0];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && compare(elements, comparator, heap[right], heap[child]) > 0) {
+                child = right;
+            }
+            if (compare(elements, comparator, value, heap[child]) >= 0) break;
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object element) {
+        return (T) element;
+    }
+}
@@ -0,0 +1,117 @@
+package beta.com.paginationapi.sortmanager.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * The PrimitiveSort class sorts a list by a numeric key such as a price, an amount, a Material ordinal or a timestamp
+ * without boxing the key and without calling a Comparator.
+ *
+ * The key of every item is extracted once into a long array, mapped so that unsigned order equals the numeric order
+ * (for doubles this is the order of Double.compare, so -0.0 comes before 0.0 and NaN comes last). A least-significant-digit
+ * radix sort with 8-bit digits then sorts a permutation of positions together with the keys, skipping every digit that is
+ * the same for all items, and the result list is built from the sorted positions.
+ * The cost is O(n) per digit instead of O(n log n) comparisons, and the sort is stable.
+ *
+ * Sorting in descending order inverts the mapped keys instead of reversing the result, so equal keys still keep their input order.
+ *
+ * Usage:
+ * List<ItemStack> byAmount = PrimitiveSort.sortByInt(items, ItemStack::getAmount, false);
+ * List<Listing> newestFirst = PrimitiveSort.sortByLong(listings, Listing::getCreatedAt, true);
+ */
+
+public final class PrimitiveSort {
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+
+    private PrimitiveSort() {
+    }
+
+    public static <T> List<T> sortByInt(List<T> items, ToIntFunction<? super T> extractor, boolean descending) {
+        Object[] elements = items.toArray();
+        long[] keys = new long[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            keys[i] = (extractor.applyAsInt(cast(elements[i])) ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+        }
+        return sort(elements, keys, Integer.SIZE, descending);
+    }
+
+    public static <T> List<T> sortByLong(List<T> items, ToLongFunction<? super T> extractor, boolean descending) {
+        Object[] elements = items.toArray();
+        long[] keys = new long[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            keys[i] = extractor.applyAsLong(cast(elements[i])) ^ Long.MIN_VALUE;
+        }
+        return sort(elements, keys, Long.SIZE, descending);
+    }
+
+    public static <T> List<T> sortByDouble(List<T> items, ToDoubleFunction<? super T> extractor, boolean descending) {
+        Object[] elements = items.toArray();
+        long[] keys = new long[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            long bits = Double.doubleToLongBits(extractor.applyAsDouble(cast(elements[i])));
+            keys[i] = bits < 0 ? ~bits : bits ^ Long.MIN_VALUE;
+        }
+        return sort(elements, keys, Long.SIZE, descending);
+    }
+
+    private static <T> List<T> sort(Object[] elements, long[] keys, int keyBits, boolean descending) {
+        int n = elements.length;
+        if (descending) {
+            long mask = keyBits == Long.SIZE ? -1L : (1L << keyBits) - 1;
+            for (int i = 0; i < n; i++) {
+                keys[i] = ~keys[i] & mask;
+            }
+        }
+
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        long[] keyBuffer = new long[n];
+        int[] orderBuffer = new int[n];
+        int[] counts = new int[RADIX];
+
+        for (int shift = 0; shift < keyBits; shift += RADIX_BITS) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < n; i++) {
+                counts[(int) (keys[i] >>> shift) & (RADIX - 1)]++;
+            }
+            if (n == 0 || counts[(int) (keys[0] >>> shift) & (RADIX - 1)] == n) continue;
+
+            int total = 0;
+            for (int digit = 0; digit < RADIX; digit++) {
+                int count = counts[digit];
+                counts[digit] = total;
+                total += count;
+            }
+            for (int i = 0; i < n; i++) {
+                int target = counts[(int) (keys[i] >>> shift) & (RADIX - 1)]++;
+                keyBuffer[target] = keys[i];
+                orderBuffer[target] = order[i];
+            }
+
+            long[] swapKeys = keys;
+            keys = keyBuffer;
+            keyBuffer = swapKeys;
+            int[] swapOrder = order;
+            order = orderBuffer;
+            orderBuffer = swapOrder;
+        }
+
+        List<T> result = new ArrayList<>(n);
+        for (int position : order) {
+            result.add(cast(elements[position]));
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object element) {
+        return (T) element;
+    }
+}
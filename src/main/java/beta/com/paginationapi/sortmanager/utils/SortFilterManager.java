@@ -2,6 +2,7 @@ package beta.com.paginationapi.sortmanager.utils;
 
 import beta.com.paginationapi.errorevents.HandleExceptions;
 import beta.com.paginationapi.sortmanager.Helper;
+import beta.com.paginationapi.sortmanager.ParallelExecution;
 
 import java.util.Collections;
 import java.util.Comparator;
@@ -27,8 +28,12 @@ public class SortFilterManager<T> {
     private final Helper<T> helper;
 
     public SortFilterManager() {
+        this(null);
+    }
+
+    public SortFilterManager(ParallelExecution parallelExecution) {
         this.handleExceptions = new HandleExceptions();
-        this.helper = new Helper<>(handleExceptions);
+        this.helper = new Helper<>(handleExceptions, parallelExecution);
     }
 
 
@@ -65,6 +70,28 @@ public class SortFilterManager<T> {
         return paginate(items, startIndex, endIndex);
     }
 
+    public List<T> sortedPage(List<T> items, Comparator<T> comparator, int pageNumber, int pageSize) {
+        if (!helper.validateList(items, "sortedPage") || comparator == null) {
+            handleExceptions.handle(new IllegalArgumentException("Items or comparator cannot be null"), this.getClass().getSimpleName(), "sortedPage");
+            return Collections.emptyList();
+        }
+
+        if (pageNumber <= 0 || pageSize <= 0) {
+            handleExceptions.handle(new IllegalArgumentException("Page number and page size must be greater than zero"), this.getClass().getSimpleName(), "sortedPage");
+            return Collections.emptyList();
+        }
+        long startIndex = (long) (pageNumber - 1) * pageSize;
+        if (startIndex >= items.size()) {
+            return Collections.emptyList();
+        }
+        int start = (int) startIndex;
+        int end = (int) Math.min(startIndex + pageSize, items.size());
+        return helper.handleOperation(
+                list -> PartialSort.range(list, comparator, start, end),
+                items, "sortedPage", Collections.emptyList()
+        );
+    }
+
     public long count(List<T> items) {
         if (items == null) {
             handleExceptions.handle(new IllegalArgumentException("Items cannot be null"), this.getClass().getSimpleName(), "count");
@@ -84,7 +111,7 @@ public class SortFilterManager<T> {
             handleExceptions.handle(new IllegalArgumentException("Predicate cannot be null"), this.getClass().getSimpleName(), "anyMatch");
             return false;
         }
-        return helper.handleOperation(list -> list.stream().anyMatch(predicate), items, "anyMatch", false);
+        return helper.handleOperation(list -> helper.stream(list, stream -> stream.anyMatch(predicate)), items, "anyMatch", false);
     }
 
     public boolean allMatch(List<T> items, Predicate<T> predicate) {
@@ -99,7 +126,7 @@ public class SortFilterManager<T> {
             handleExceptions.handle(new IllegalArgumentException("Predicate cannot be null"), this.getClass().getSimpleName(), "allMatch");
             return false;
         }
-        return helper.handleOperation(list -> list.stream().allMatch(predicate), items, "allMatch", false);
+        return helper.handleOperation(list -> helper.stream(list, stream -> stream.allMatch(predicate)), items, "allMatch", false);
     }
 
     public boolean noneMatch(List<T> items, Predicate<T> predicate) {
@@ -112,7 +139,7 @@ public class SortFilterManager<T> {
             handleExceptions.handle(new IllegalArgumentException("Predicate cannot be null"), this.getClass().getSimpleName(), "noneMatch");
             return false;
         }
-        return helper.handleOperation(list -> list.stream().noneMatch(predicate), items, "noneMatch", false);
+        return helper.handleOperation(list -> helper.stream(list, stream -> stream.noneMatch(predicate)), items, "noneMatch", false);
     }
 
     public List<T> distinct(List<T> items) {
@@ -121,7 +148,7 @@ public class SortFilterManager<T> {
             return Collections.emptyList();
         }
         return helper.handleOperation(
-                list -> list.stream().distinct().collect(Collectors.toList()),
+                list -> helper.stream(list, stream -> stream.distinct().collect(Collectors.toList())),
                 items, "distinct", Collections.emptyList()
         );
     }
@@ -137,7 +164,7 @@ public class SortFilterManager<T> {
             return Collections.emptyList();
         }
         return helper.handleOperation(
-                list -> list.stream().map(mapper).collect(Collectors.toList()),
+                list -> helper.<List<R>>stream(list, stream -> stream.map(mapper).collect(Collectors.toList())),
                 items, "map", Collections.emptyList()
         );
     }
@@ -0,0 +1,104 @@
+package beta.com.paginationapi;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Items for tests that need a display name or lore without a running server.
+ *
+ * ItemStack.getItemMeta asks the server's item factory for a meta, which does not exist in unit tests,
+ * so named items return a read-only proxy meta built from their own fields instead.
+ */
+
+public final class TestItems {
+
+    private TestItems() {
+    }
+
+    public static NamedItem named(String name, String... lore) {
+        return new NamedItem(Material.STONE, name, lore.length == 0 ? null : Arrays.asList(lore));
+    }
+
+    public static final class NamedItem extends ItemStack {
+        private String name;
+        private List<String> lore;
+
+        private NamedItem(Material material, String name, List<String> lore) {
+            super(material);
+            this.name = name;
+            this.lore = lore;
+        }
+
+        public void rename(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public boolean hasItemMeta() {
+            return true;
+        }
+
+        @Override
+        public ItemMeta getItemMeta() {
+            String name = this.name;
+            List<String> lore = this.lore == null ? null : new ArrayList<>(this.lore);
+            return (ItemMeta) Proxy.newProxyInstance(ItemMeta.class.getClassLoader(), new Class<?>[]{ItemMeta.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getDisplayName":
+                        return name;
+                    case "hasDisplayName":
+                        return name != null;
+                    case "getLore":
+                        return lore == null ? null : new ArrayList<>(lore);
+                    case "hasLore":
+                        return lore != null;
+                    case "clone":
+                        return proxy;
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    case "toString":
+                        return "Meta{" + name + ", " + lore + "}";
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof NamedItem)) return false;
+            NamedItem item = (NamedItem) o;
+            return getType() == item.getType() && getAmount() == item.getAmount()
+                    && Objects.equals(name, item.name) && Objects.equals(lore, item.lore);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getType(), getAmount(), name, lore);
+        }
+
+        @Override
+        public NamedItem clone() {
+            return (NamedItem) super.clone();
+        }
+
+        @Override
+        public String toString() {
+            return "NamedItem{" + name + ", " + lore + "}";
+        }
+    }
+}
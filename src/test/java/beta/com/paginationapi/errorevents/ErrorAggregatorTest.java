@@ -0,0 +1,126 @@
+package beta.com.paginationapi.errorevents;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ErrorAggregatorTest {
+
+    @Test
+    void reportsOnlyTheFirstOccurrenceOfAnEvent() {
+        ErrorAggregator aggregator = new ErrorAggregator(1000L, 16);
+
+        assertTrue(aggregator.record("Service", "open", new IllegalStateException("closed")));
+        assertFalse(aggregator.record("Service", "open", new IllegalStateException("closed")));
+        assertTrue(aggregator.record("Service", "open", new IllegalStateException("other")));
+
+        assertEquals(2, aggregator.getCount("Service", "open", IllegalStateException.class, "closed"));
+    }
+
+    @Test
+    void forgetsEventsThatWereIdleForAWholeWindow() {
+        ErrorAggregator aggregator = new ErrorAggregator(1000L, 16);
+        aggregator.record("Service", "open", new IllegalStateException("closed"));
+        long now = System.currentTimeMillis();
+
+        List<String> summaries = aggregator.drainWindow(now + 1000L);
+        assertEquals(1, summaries.size());
+        assertEquals(1, aggregator.getAggregates().size());
+
+        aggregator.drainWindow(now + 2000L);
+        assertEquals(0, aggregator.getAggregates().size());
+        assertTrue(aggregator.record("Service", "open", new IllegalStateException("closed")));
+    }
+
+    @Test
+    void keepsReportingNewEventsAfterManyDistinctMessages() {
+        ErrorAggregator aggregator = new ErrorAggregator(1000L, 4);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 100; i++) {
+            aggregator.record("Service", "get", new IllegalArgumentException("Manager not found: " + i));
+            if (i % 4 == 3) {
+                now += 1000L;
+                aggregator.drainWindow(now);
+                now += 1000L;
+                aggregator.drainWindow(now);
+            }
+        }
+
+        assertTrue(aggregator.record("Service", "close", new IllegalStateException("brand new")));
+        assertEquals(1, aggregator.getCount("Service", "close", IllegalStateException.class, "brand new"));
+        assertEquals(0, aggregator.getOverflowCount());
+    }
+
+    @Test
+    void reportsOneOverflowingEventPerWindow() {
+        ErrorAggregator aggregator = new ErrorAggregator(1000L, 2);
+        aggregator.record("Service", "get", new IllegalArgumentException("a"));
+        aggregator.record("Service", "get", new IllegalArgumentException("b"));
+
+        assertTrue(aggregator.record("Service", "get", new IllegalArgumentException("c")));
+        assertFalse(aggregator.record("Service", "get", new IllegalArgumentException("d")));
+        assertEquals(2, aggregator.getOverflowCount());
+
+        List<String> summaries = aggregator.drainWindow(System.currentTimeMillis() + 1000L);
+        assertTrue(summaries.get(summaries.size() - 1).startsWith("2x other exception(s)"));
+        aggregator.record("Service", "get", new IllegalArgumentException("a"));
+        aggregator.record("Service", "get", new IllegalArgumentException("b"));
+        assertTrue(aggregator.record("Service", "get", new IllegalArgumentException("e")));
+    }
+
+    @Test
+    void everyOccurrenceRecordedDuringDrainsAppearsInASummary() throws Exception {
+        ErrorAggregator aggregator = new ErrorAggregator(1000L, 64);
+        int threads = 4;
+        int occurrences = 100_000;
+        AtomicBoolean recording = new AtomicBoolean(true);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> recorders = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            recorders.add(pool.submit(() -> {
+                for (int i = 0; i < occurrences; i++) {
+                    aggregator.record("Service", "open", new IllegalStateException("closed " + (i + thread) % 8));
+                }
+            }));
+        }
+
+        // Each drain moves the window on by a whole window, so aggregates without an occurrence since the last drain are evicted.
+        long summarized = 0;
+        long now = System.currentTimeMillis();
+        Future<?> stop = pool.submit(() -> {
+            for (Future<?> recorder : recorders) {
+                recorder.get();
+            }
+            recording.set(false);
+            return null;
+        });
+        while (recording.get()) {
+            now += 1000L;
+            summarized += sumCounts(aggregator.drainWindow(now));
+        }
+        stop.get();
+        pool.shutdown();
+        summarized += sumCounts(aggregator.drainWindow(now + 1000L));
+
+        assertEquals((long) threads * occurrences, summarized);
+        assertEquals(0, aggregator.getOverflowCount());
+    }
+
+    private static long sumCounts(List<String> summaries) {
+        long sum = 0;
+        for (String summary : summaries) {
+            sum += Long.parseLong(summary.substring(0, summary.indexOf('x')));
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,113 @@
+package beta.com.paginationapi.errorevents;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExceptionLogSinkTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writesSubmittedEventsBeforeShuttingDown() throws Exception {
+        Path logFile = directory.resolve("exceptions.log");
+        ExceptionLogSink sink = new ExceptionLogSink(logFile, 16, 1024 * 1024, 2);
+
+        assertTrue(sink.submit("2024-01-01 00:00:00", "Service", "open", new IllegalStateException("closed")));
+        sink.shutdown();
+
+        String log = new String(Files.readAllBytes(logFile), StandardCharsets.UTF_8);
+        assertTrue(log.contains("Exception Message: closed"));
+        assertEquals(1, sink.getWrittenCount());
+        assertEquals(0, sink.getQueuedCount());
+    }
+
+    @Test
+    void lateEventsAfterShutdownAreDroppedWithoutCorruptingTheQueueCount() {
+        ExceptionLogSink sink = new ExceptionLogSink(directory.resolve("exceptions.log"), 4, 1024 * 1024, 2);
+        sink.shutdown();
+
+        for (int i = 0; i < 10; i++) {
+            assertFalse(sink.submit("2024-01-01 00:00:00", "Service", "open", new IllegalStateException("late")));
+        }
+
+        assertEquals(0, sink.getQueuedCount());
+        assertEquals(10, sink.getDroppedCount());
+    }
+
+    @Test
+    void writesTheDropLineWhenTheQueueOverflowsWhileRunning() throws Exception {
+        Path logFile = directory.resolve("exceptions.log");
+        BlockingAggregator aggregator = new BlockingAggregator();
+        ExceptionLogSink sink = new ExceptionLogSink(logFile, 4, 1024 * 1024, 2, aggregator);
+        assertTrue(aggregator.entered.await(5, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 7; i++) {
+            sink.submit("2024-01-01 00:00:00", "Service", "open", new IllegalStateException("event " + i));
+        }
+        assertEquals(3, sink.getDroppedCount());
+        assertEquals(4, sink.getQueuedCount());
+        aggregator.release.countDown();
+        sink.shutdown();
+
+        String log = new String(Files.readAllBytes(logFile), StandardCharsets.UTF_8);
+        assertTrue(log.contains("Dropped 3 exception report(s) because the log queue was full"));
+        assertTrue(log.contains("Exception Message: event 3"));
+        assertFalse(log.contains("Exception Message: event 4"));
+        assertEquals(4, sink.getWrittenCount());
+        assertEquals(0, sink.getQueuedCount());
+    }
+
+    @Test
+    void rotatesTheLogIntoNumberedFilesAndDropsTheOldest() throws Exception {
+        Path logFile = directory.resolve("exceptions.log");
+        ExceptionLogSink sink = new ExceptionLogSink(logFile, 16, 1, 2);
+
+        for (int i = 1; i <= 3; i++) {
+            sink.submit("2024-01-01 00:00:00", "Service", "open", new IllegalStateException("event " + i));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (sink.getWrittenCount() < i && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+        }
+        sink.shutdown();
+
+        assertEquals(3, sink.getWrittenCount());
+        assertFalse(Files.exists(logFile));
+        assertTrue(read(directory.resolve("exceptions.log.1")).contains("Exception Message: event 3"));
+        assertTrue(read(directory.resolve("exceptions.log.2")).contains("Exception Message: event 2"));
+        assertFalse(Files.exists(directory.resolve("exceptions.log.3")));
+    }
+
+    private static String read(Path file) throws Exception {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    // Holds the worker inside its first drain, so the queue fills up without being drained concurrently.
+    private static final class BlockingAggregator extends ErrorAggregator {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        List<String> drainWindow(long now) {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.drainWindow(now);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package beta.com.paginationapi.itemmanager;
+
+import beta.com.paginationapi.TestItems;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ItemInternerTest {
+    private final ItemInterner interner = new ItemInterner();
+
+    @Test
+    void sharesOneInstanceForEqualItemsAcrossManagers() {
+        ItemManager first = new ItemManager(UUID.randomUUID(), interner);
+        ItemManager second = new ItemManager(UUID.randomUUID(), interner);
+
+        ItemHandle a = first.addItem(TestItems.named("Iron Sword"));
+        ItemHandle b = second.addItem(TestItems.named("Iron Sword"));
+
+        assertSame(a.getItem(), b.getItem());
+        assertEquals(1, interner.size());
+        assertEquals(2, interner.getReferences());
+    }
+
+    @Test
+    void releasesACanonicalItemThatWasChangedInPlace() {
+        ItemManager manager = new ItemManager(UUID.randomUUID(), interner);
+        ItemHandle handle = manager.addItem(TestItems.named("Iron Sword"));
+
+        ((TestItems.NamedItem) handle.getItem()).rename("Broken Sword");
+        manager.removeItem(handle);
+
+        assertEquals(0, interner.size());
+        assertEquals(0, interner.getReferences());
+        assertNotSame(handle.getItem(), interner.intern(TestItems.named("Broken Sword")));
+    }
+
+    @Test
+    void editedItemsDoNotFollowLaterChangesToTheEditorsCopy() {
+        ItemManager manager = new ItemManager(UUID.randomUUID(), interner);
+        ItemHandle handle = manager.addItem(TestItems.named("Iron Sword"));
+        AtomicReference<ItemStack> kept = new AtomicReference<>();
+
+        manager.editItem(handle, copy -> {
+            ((TestItems.NamedItem) copy).rename("Golden Sword");
+            kept.set(copy);
+        });
+        ((TestItems.NamedItem) kept.get()).rename("Stolen Sword");
+
+        assertEquals(TestItems.named("Golden Sword"), manager.getItems().get(0));
+        manager.removeItem(handle);
+        assertEquals(0, interner.size());
+    }
+}
@@ -0,0 +1,43 @@
+package beta.com.paginationapi.itemmanager.service.impl;
+
+import beta.com.paginationapi.TestItems;
+import beta.com.paginationapi.itemmanager.ItemHandle;
+import beta.com.paginationapi.itemmanager.service.ItemManagerService;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ItemManagerServiceImplTest {
+    private final ItemManagerService items = new ItemManagerServiceImpl();
+    private final UUID managerId = UUID.randomUUID();
+
+    ItemManagerServiceImplTest() {
+        items.sync().createItemManager(managerId);
+    }
+
+    @Test
+    void asyncAddCompletesWithAHandleToTheAddedItem() {
+        items.addItem(managerId, TestItems.named("Iron Sword")).join();
+        ItemHandle handle = items.addItem(managerId, TestItems.named("Stone Axe")).join();
+
+        assertTrue(items.removeItem(managerId, handle).join());
+        assertEquals(Arrays.asList(TestItems.named("Iron Sword")), items.getItems(managerId).join());
+    }
+
+    @Test
+    void asyncBatchesCompleteWithHandlesInCollectionOrder() {
+        List<ItemHandle> added = items.addItems(managerId, Arrays.asList(TestItems.named("a"), TestItems.named("b"))).join();
+        assertEquals(2, added.size());
+        assertTrue(items.removeItem(managerId, added.get(0)).join());
+
+        List<ItemHandle> replaced = items.replaceItems(managerId, Arrays.asList(TestItems.named("c"), TestItems.named("d"), TestItems.named("e"))).join();
+        assertEquals(3, replaced.size());
+        assertTrue(items.removeItem(managerId, replaced.get(1)).join());
+        assertEquals(Arrays.asList(TestItems.named("c"), TestItems.named("e")), items.getItems(managerId).join());
+    }
+}
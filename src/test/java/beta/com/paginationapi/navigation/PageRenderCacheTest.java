@@ -0,0 +1,54 @@
+package beta.com.paginationapi.navigation;
+
+import beta.com.paginationapi.TestItems;
+import beta.com.paginationapi.itemmanager.service.ItemManagerService;
+import beta.com.paginationapi.itemmanager.service.impl.ItemManagerServiceImpl;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PageRenderCacheTest {
+    private final ItemManagerService items = new ItemManagerServiceImpl();
+    private final UUID managerId = UUID.randomUUID();
+    private final PageRenderCache cache = new PageRenderCache(items, 8, 9, PageRenderCache.NO_SLOT, PageRenderCache.NO_SLOT, PageRenderCache.NO_SLOT);
+
+    PageRenderCacheTest() {
+        items.sync().createItemManager(managerId);
+        for (int i = 0; i < 12; i++) {
+            items.sync().addItem(managerId, TestItems.named("item " + i));
+        }
+    }
+
+    @Test
+    void rendersEachPageOnceUntilTheCatalogChanges() {
+        ItemStack[] first = cache.getPage(managerId, 1, 9);
+        cache.getPage(managerId, 1, 9);
+
+        assertEquals(TestItems.named("item 9"), first[0]);
+        assertNull(first[3]);
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+
+        items.sync().addItem(managerId, TestItems.named("item 12"));
+        assertEquals(TestItems.named("item 12"), cache.getPage(managerId, 1, 9)[3]);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void pagesHandedOutCannotChangeTheCachedPageOrTheCatalog() {
+        ItemStack[] page = cache.getPage(managerId, 0, 9);
+        ((TestItems.NamedItem) page[0]).rename("changed");
+        page[1] = null;
+
+        ItemStack[] again = cache.getPage(managerId, 0, 9);
+        assertEquals(TestItems.named("item 0"), again[0]);
+        assertEquals(TestItems.named("item 1"), again[1]);
+        assertNotSame(items.sync().getItems(managerId).get(0), again[0]);
+        assertEquals(TestItems.named("item 0"), items.sync().getItems(managerId).get(0));
+    }
+}
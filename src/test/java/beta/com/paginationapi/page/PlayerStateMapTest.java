@@ -0,0 +1,160 @@
+package beta.com.paginationapi.page;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlayerStateMapTest {
+    // The table starts with 16 slots and grows before its 12th entry, so up to 11 players stay in the first table.
+    private static final int FIRST_MASK = 15;
+
+    @Test
+    void randomOperationsOnWrappingClustersMatchAHashMap() {
+        Random random = new Random(19);
+        for (int run = 0; run < 200; run++) {
+            // Every player's home slot is one of the last three, so clusters wrap past the end of the array.
+            runAgainstModel(random, playersHomedAt(random, 11, 13, 14, 15), 400);
+        }
+    }
+
+    @Test
+    void randomOperationsWhileGrowingMatchAHashMap() {
+        Random random = new Random(18);
+        List<UUID> players = playersHomedAt(random, 20, 14, 15);
+        for (int i = 0; i < 300; i++) {
+            players.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        for (int run = 0; run < 20; run++) {
+            runAgainstModel(random, players, 20_000);
+        }
+    }
+
+    @Test
+    void removingFromTheMiddleOfAClusterKeepsTheRestReachable() {
+        Random random = new Random(7);
+        List<UUID> players = playersHomedAt(random, 8, 15);
+        for (int middle = 0; middle < players.size(); middle++) {
+            PlayerStateMap states = new PlayerStateMap();
+            for (int i = 0; i < players.size(); i++) {
+                states.setPage(players.get(i), i + 1);
+            }
+
+            states.remove(players.get(middle));
+
+            assertEquals(players.size() - 1, states.size());
+            for (int i = 0; i < players.size(); i++) {
+                assertEquals(i == middle ? 0 : i + 1, states.getPage(players.get(i)), "player " + i + " after removing " + middle);
+                assertEquals(i != middle, states.contains(players.get(i)));
+            }
+            states.setPage(players.get(middle), 99);
+            assertEquals(99, states.getPage(players.get(middle)));
+            assertEquals(players.size(), states.size());
+        }
+    }
+
+    @Test
+    void theDefaultStateIsNotStored() {
+        PlayerStateMap states = new PlayerStateMap();
+        UUID playerId = UUID.randomUUID();
+
+        states.setPage(playerId, 3);
+        states.setActive(playerId, true);
+        states.setPage(playerId, 0);
+        assertTrue(states.contains(playerId));
+        states.setActive(playerId, false);
+
+        assertFalse(states.contains(playerId));
+        assertEquals(0, states.size());
+    }
+
+    @Test
+    void idleTimesBelowOneSecondKeepPlayersWhoJustUsedTheMenu() throws Exception {
+        PlayerStateMap states = new PlayerStateMap();
+        UUID playerId = UUID.randomUUID();
+        states.setPage(playerId, 2);
+
+        assertTrue(states.idlePlayers(1).isEmpty());
+        assertTrue(states.idlePlayers(500).isEmpty());
+        assertTrue(states.idlePlayers(999).isEmpty());
+        assertTrue(states.idlePlayers(1000).isEmpty());
+
+        Thread.sleep(2100);
+        assertEquals(Collections.singletonList(playerId), states.idlePlayers(500));
+        assertTrue(states.idlePlayers(60_000).isEmpty());
+    }
+
+    private static void runAgainstModel(Random random, List<UUID> players, int operations) {
+        PlayerStateMap states = new PlayerStateMap();
+        Map<UUID, int[]> model = new HashMap<>();
+        for (int op = 0; op < operations; op++) {
+            UUID playerId = players.get(random.nextInt(players.size()));
+            int[] state = model.containsKey(playerId) ? model.get(playerId).clone() : new int[3];
+            switch (random.nextInt(5)) {
+                case 0:
+                    state[0] = random.nextInt(3) == 0 ? 0 : random.nextInt(1000);
+                    states.setPage(playerId, state[0]);
+                    break;
+                case 1:
+                    state[1] = random.nextBoolean() ? 1 : 0;
+                    states.setActive(playerId, state[1] == 1);
+                    break;
+                case 2:
+                    state[2] = random.nextBoolean() ? 1 : 0;
+                    states.setRemember(playerId, state[2] == 1);
+                    break;
+                case 3:
+                    state = new int[3];
+                    states.remove(playerId);
+                    break;
+                default:
+                    break;
+            }
+            if (state[0] == 0 && state[1] == 0 && state[2] == 0) {
+                model.remove(playerId);
+            } else {
+                model.put(playerId, state);
+            }
+
+            assertEquals(model.size(), states.size(), "size after operation " + op);
+            if (op % 16 == 0) {
+                assertMatches(model, states, players);
+            }
+        }
+        assertMatches(model, states, players);
+    }
+
+    private static void assertMatches(Map<UUID, int[]> model, PlayerStateMap states, List<UUID> players) {
+        for (UUID playerId : players) {
+            int[] expected = model.containsKey(playerId) ? model.get(playerId) : new int[3];
+            assertEquals(model.containsKey(playerId), states.contains(playerId), "contains " + playerId);
+            assertEquals(expected[0], states.getPage(playerId), "page of " + playerId);
+            assertEquals(expected[1] == 1, states.isActive(playerId), "active " + playerId);
+            assertEquals(expected[2] == 1, states.isRemembering(playerId), "remember " + playerId);
+        }
+    }
+
+    private static List<UUID> playersHomedAt(Random random, int count, int... homeSlots) {
+        List<UUID> players = new ArrayList<>();
+        while (players.size() < count) {
+            UUID playerId = new UUID(random.nextLong(), random.nextLong());
+            int home = PlayerStateMap.hash(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits()) & FIRST_MASK;
+            for (int slot : homeSlots) {
+                if (home == slot) {
+                    players.add(playerId);
+                    break;
+                }
+            }
+        }
+        return players;
+    }
+}
@@ -0,0 +1,94 @@
+package beta.com.paginationapi.page.cache;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PageCacheTest {
+    private final UUID managerA = UUID.randomUUID();
+    private final UUID managerB = UUID.randomUUID();
+
+    @Test
+    void servesRepeatedLookupsFromTheCache() {
+        PageCache<List<ItemStack>> cache = new PageCache<>(8);
+        AtomicInteger loads = new AtomicInteger();
+        List<ItemStack> first = cache.get(managerA, 1, 0, 45, page(loads));
+        List<ItemStack> second = cache.get(managerA, 1, 0, 45, page(loads));
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void dropsPagesOfOlderVersionsWhenANewerVersionIsSeen() {
+        PageCache<List<ItemStack>> cache = new PageCache<>(8);
+        cache.get(managerA, 1, 0, 45, page(new AtomicInteger()));
+        cache.get(managerA, 1, 1, 45, page(new AtomicInteger()));
+        cache.get(managerB, 1, 0, 45, page(new AtomicInteger()));
+
+        cache.get(managerA, 2, 0, 45, page(new AtomicInteger()));
+
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.getInvalidations());
+    }
+
+    @Test
+    void doesNotCacheAPageLoadedForAnOlderVersion() {
+        PageCache<List<ItemStack>> cache = new PageCache<>(8);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(managerA, 2, 0, 45, page(loads));
+        cache.get(managerA, 1, 1, 45, page(loads));
+        cache.get(managerA, 1, 1, 45, page(loads));
+
+        assertEquals(3, loads.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void forgetsAManagerOnceItsLastPageIsEvicted() {
+        PageCache<List<ItemStack>> cache = new PageCache<>(1);
+        cache.get(managerA, 5, 0, 45, page(new AtomicInteger()));
+        cache.get(managerB, 1, 0, 45, page(new AtomicInteger()));
+        assertEquals(1, cache.getEvictions());
+
+        // A manager recreated under the same ID starts again at a low version; its pages must be cached again.
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(managerA, 0, 0, 45, page(loads));
+        cache.get(managerA, 0, 0, 45, page(loads));
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void invalidateOnlyDropsThePagesOfThatManager() {
+        PageCache<List<ItemStack>> cache = new PageCache<>(8);
+        cache.get(managerA, 1, 0, 45, page(new AtomicInteger()));
+        cache.get(managerA, 1, 1, 45, page(new AtomicInteger()));
+        cache.get(managerB, 1, 0, 45, page(new AtomicInteger()));
+
+        cache.invalidate(managerA);
+
+        assertEquals(1, cache.size());
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(managerB, 1, 0, 45, page(loads));
+        assertEquals(0, loads.get());
+    }
+
+    private static Supplier<List<ItemStack>> page(AtomicInteger loads) {
+        return () -> {
+            loads.incrementAndGet();
+            return Collections.singletonList(new ItemStack(Material.STONE));
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package beta.com.paginationapi.page.service.impl;
+
+import beta.com.paginationapi.TestItems;
+import beta.com.paginationapi.itemmanager.service.ItemManagerService;
+import beta.com.paginationapi.itemmanager.service.impl.ItemManagerServiceImpl;
+import beta.com.paginationapi.page.service.PaginationResult;
+import beta.com.paginationapi.page.service.PaginationStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PaginationServiceImplTest {
+    private final ItemManagerService items = new ItemManagerServiceImpl();
+    private final PaginationServiceImpl service = new PaginationServiceImpl(items);
+    private final UUID managerId = UUID.randomUUID();
+    private final UUID menuId = UUID.randomUUID();
+    private final UUID playerId = UUID.randomUUID();
+
+    PaginationServiceImplTest() {
+        items.sync().createItemManager(managerId);
+        for (int i = 0; i < 10; i++) {
+            items.sync().addItem(managerId, TestItems.named("item " + i));
+        }
+        service.createMenu(4, items, menuId, managerId);
+    }
+
+    @Test
+    void reportsAMissingPlayerOrMenuWithoutAnException() {
+        assertEquals(PaginationStatus.INVALID_PLAYER, service.tryNextPage(null));
+        assertEquals(PaginationStatus.NO_ACTIVE_MENU, service.tryNextPage(playerId));
+        assertEquals(PaginationStatus.NO_ACTIVE_MENU, service.tryHasPreviousPage(playerId).getStatus());
+        assertEquals(PaginationStatus.INVALID_PLAYER, service.tryHasPreviousPage(null).getStatus());
+        assertEquals(PaginationStatus.NO_ACTIVE_MENU, service.tryCloseMenu(playerId));
+    }
+
+    @Test
+    void navigatesWithinTheMenuBounds() {
+        service.setActiveMenu(playerId, menuId);
+
+        assertEquals(PaginationStatus.NO_PREVIOUS_PAGE, service.tryPreviousPage(playerId));
+        assertFalse(service.tryHasPreviousPage(playerId).getValue());
+        assertEquals(PaginationStatus.OK, service.tryNextPage(playerId));
+        assertEquals(PaginationStatus.OK, service.tryNextPage(playerId));
+        assertEquals(PaginationStatus.NO_NEXT_PAGE, service.tryNextPage(playerId));
+
+        PaginationResult<Boolean> hasPrevious = service.tryHasPreviousPage(playerId);
+        assertTrue(hasPrevious.isOk());
+        assertTrue(hasPrevious.getValue());
+        assertEquals(2, (int) service.tryGetPageForPlayer(playerId).getValue());
+        assertEquals(PaginationStatus.OK, service.tryCloseMenu(playerId));
+        assertEquals(PaginationStatus.NO_ACTIVE_MENU, service.tryHasNextPage(playerId).getStatus());
+    }
+
+    @Test
+    void evictingWithAnIdleTimeBelowOneSecondKeepsActivePlayers() {
+        service.setActiveMenu(playerId, menuId);
+        assertEquals(PaginationStatus.OK, service.tryNextPage(playerId));
+
+        assertEquals(0, service.evictIdlePlayers(500));
+        assertEquals(1, (int) service.tryGetPageForPlayer(playerId).getValue());
+    }
+}
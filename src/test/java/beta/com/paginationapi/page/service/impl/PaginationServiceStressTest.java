@@ -0,0 +1,110 @@
+package beta.com.paginationapi.page.service.impl;
+
+import beta.com.paginationapi.TestItems;
+import beta.com.paginationapi.itemmanager.service.ItemManagerService;
+import beta.com.paginationapi.itemmanager.service.impl.ItemManagerServiceImpl;
+import beta.com.paginationapi.page.service.PaginationResult;
+import beta.com.paginationapi.page.service.PaginationStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PaginationServiceStressTest {
+    private static final int THREADS = 8;
+    private static final int OPERATIONS = 20_000;
+    private static final int PLAYERS = 4;
+    private static final int PAGE_SIZE = 5;
+    private static final int ITEMS = 23;
+    private static final int LAST_PAGE = (ITEMS - 1) / PAGE_SIZE;
+
+    @Test
+    void concurrentNavigationStaysInBoundsAndNeverFailsWithOk() throws Exception {
+        ItemManagerService items = new ItemManagerServiceImpl();
+        PaginationServiceImpl service = new PaginationServiceImpl(items);
+        UUID[] menus = new UUID[2];
+        for (int m = 0; m < menus.length; m++) {
+            UUID managerId = UUID.randomUUID();
+            menus[m] = UUID.randomUUID();
+            items.sync().createItemManager(managerId);
+            for (int i = 0; i < ITEMS; i++) {
+                items.sync().addItem(managerId, TestItems.named("item " + m + "-" + i));
+            }
+            service.createMenu(PAGE_SIZE, items, menus[m], managerId);
+        }
+        UUID[] players = new UUID[PLAYERS];
+        for (int p = 0; p < PLAYERS; p++) {
+            players[p] = UUID.randomUUID();
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Void>> results = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            long seed = t;
+            results.add(pool.submit((Callable<Void>) () -> {
+                Random random = new Random(seed);
+                start.await();
+                for (int i = 0; i < OPERATIONS; i++) {
+                    UUID playerId = players[random.nextInt(PLAYERS)];
+                    switch (random.nextInt(6)) {
+                        case 0:
+                            assertStatus(service.tryNextPage(playerId), PaginationStatus.NO_NEXT_PAGE);
+                            break;
+                        case 1:
+                            assertStatus(service.tryPreviousPage(playerId), PaginationStatus.NO_PREVIOUS_PAGE);
+                            break;
+                        case 2:
+                            service.setActiveMenu(playerId, menus[random.nextInt(menus.length)]);
+                            break;
+                        case 3:
+                            assertStatus(service.tryCloseMenu(playerId), PaginationStatus.OK);
+                            break;
+                        case 4:
+                            service.forgetPlayer(playerId);
+                            break;
+                        default:
+                            PaginationResult<Integer> page = service.tryGetPageForPlayer(playerId);
+                            if (page.isOk()) {
+                                assertNotNull(page.getValue(), "an OK result without a value");
+                                assertTrue(page.getValue() >= 0 && page.getValue() <= LAST_PAGE, "page out of bounds: " + page.getValue());
+                            } else {
+                                assertEquals(PaginationStatus.NO_ACTIVE_MENU, page.getStatus());
+                            }
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(60, TimeUnit.SECONDS));
+        for (Future<Void> result : results) {
+            result.get();
+        }
+
+        for (UUID menuId : menus) {
+            for (UUID playerId : players) {
+                int page = service.getMenu(menuId).getPageForPlayer(playerId);
+                assertTrue(page >= 0 && page <= LAST_PAGE, "page out of bounds: " + page);
+            }
+        }
+    }
+
+    // A navigation call either moved, hit the expected edge or found no active menu; a failed result is never OK.
+    private static void assertStatus(PaginationStatus status, PaginationStatus edge) {
+        assertTrue(status == PaginationStatus.OK || status == edge || status == PaginationStatus.NO_ACTIVE_MENU, "unexpected status: " + status);
+    }
+}
@@ -0,0 +1,83 @@
+package beta.com.paginationapi.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchExecutorTest {
+
+    @AfterEach
+    void shutdownSharedExecutor() {
+        SearchExecutor.shutdownInstance();
+    }
+
+    @Test
+    void sharesOneExecutorUntilItIsShutDown() {
+        SearchExecutor first = SearchExecutor.getInstance();
+        assertSame(first, SearchExecutor.getInstance());
+
+        SearchExecutor.shutdownInstance();
+
+        assertTrue(first.isShutdown());
+        SearchExecutor second = SearchExecutor.getInstance();
+        assertNotSame(first, second);
+        assertFalse(second.isShutdown());
+    }
+
+    @Test
+    void aNewSearchCancelsThePreviousSearchOfThePlayer() throws Exception {
+        SearchExecutor executor = new SearchExecutor(1, 4, 5000L);
+        try {
+            UUID playerId = UUID.randomUUID();
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Integer> first = executor.submit(playerId, () -> {
+                release.await();
+                return 1;
+            });
+            CompletableFuture<Integer> second = executor.submit(playerId, () -> 2);
+            release.countDown();
+
+            assertTrue(first.isCancelled());
+            assertEquals(2, second.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void timesOutAndRejectsWhenTheQueueIsFull() throws Exception {
+        SearchExecutor executor = new SearchExecutor(1, 1, 100L);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CompletableFuture<Integer> slow = executor.submit(UUID.randomUUID(), () -> {
+                release.await();
+                return 1;
+            });
+            executor.submit(UUID.randomUUID(), () -> 2);
+            CompletableFuture<Integer> rejected = executor.submit(UUID.randomUUID(), () -> 3);
+
+            ExecutionException rejection = assertThrows(ExecutionException.class, () -> rejected.get(1, TimeUnit.SECONDS));
+            assertInstanceOf(RejectedExecutionException.class, rejection.getCause());
+            ExecutionException timeout = assertThrows(ExecutionException.class, () -> slow.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(TimeoutException.class, timeout.getCause());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package beta.com.paginationapi.search.index;
+
+import beta.com.paginationapi.TestItems;
+import beta.com.paginationapi.TestItems.NamedItem;
+import beta.com.paginationapi.itemmanager.ItemHandle;
+import beta.com.paginationapi.itemmanager.ItemManager;
+import beta.com.paginationapi.search.SearchType;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SearchIndexTest {
+    private static final String[] WORDS = {"sword", "swift", "shield", "stone", "bow", "bowl", "axe", "apple", "golden", "iron"};
+
+    @Test
+    void findsWordsByNameLoreAndPrefix() {
+        ItemManager manager = new ItemManager(UUID.randomUUID());
+        manager.addItem(TestItems.named("Iron Sword", "Sharp"));
+        manager.addItem(TestItems.named("Golden Apple", "Tasty"));
+        manager.addItem(TestItems.named("Swift Bow"));
+        SearchIndex index = SearchIndex.forManager(manager);
+
+        assertEquals(0, index.firstPosition(SearchType.NAME, "sword"));
+        assertEquals(1, index.firstPosition(SearchType.LORE, "tasty"));
+        assertArrayEquals(new int[]{0, 2}, index.positions(SearchType.PREFIX, "sw"));
+        assertEquals(-1, index.firstPosition(SearchType.NAME, "axe"));
+    }
+
+    @Test
+    void removingAnItemMovesLaterMatchesDown() {
+        ItemManager manager = new ItemManager(UUID.randomUUID());
+        ItemHandle first = manager.addItem(TestItems.named("Iron Sword"));
+        manager.addItem(TestItems.named("Stone Axe"));
+        manager.addItem(TestItems.named("Golden Sword"));
+        SearchIndex index = SearchIndex.forManager(manager);
+
+        manager.removeItem(first);
+
+        assertArrayEquals(new int[]{1}, index.positions(SearchType.NAME, "sword"));
+        assertEquals(0, index.firstPosition(SearchType.NAME, "axe"));
+        assertEquals(-1, index.firstPosition(SearchType.NAME, "iron"));
+    }
+
+    @Test
+    void removesTheWordsAnItemWasIndexedUnderEvenIfItChangedInPlace() {
+        ItemManager manager = new ItemManager(UUID.randomUUID());
+        NamedItem item = TestItems.named("Iron Sword");
+        ItemHandle handle = manager.addItem(item);
+        manager.addItem(TestItems.named("Stone Axe"));
+        SearchIndex index = SearchIndex.forManager(manager);
+
+        item.rename("Golden Bow");
+        manager.removeItem(handle);
+
+        assertEquals(-1, index.firstPosition(SearchType.NAME, "iron"));
+        assertEquals(-1, index.firstPosition(SearchType.PREFIX, "sw"));
+        assertEquals(0, index.firstPosition(SearchType.NAME, "axe"));
+    }
+
+    @Test
+    void keepsPositionsWhenRemovedIdsAreCompacted() {
+        Random random = new Random(7);
+        ItemManager manager = new ItemManager(UUID.randomUUID());
+        List<ItemHandle> handles = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            handles.add(manager.addItem(randomItem(random)));
+        }
+        SearchIndex index = SearchIndex.forManager(manager);
+
+        for (int i = 0; i < 250; i++) {
+            manager.removeItem(handles.remove(random.nextInt(handles.size())));
+        }
+        handles.add(manager.addItem(randomItem(random)));
+
+        assertMatchesLinearScan(manager, index);
+    }
+
+    @Test
+    void followsRandomChangesLikeALinearScan() {
+        Random random = new Random(42);
+        ItemManager manager = new ItemManager(UUID.randomUUID());
+        List<ItemHandle> handles = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            handles.add(manager.addItem(randomItem(random)));
+        }
+        SearchIndex index = SearchIndex.forManager(manager);
+
+        for (int step = 0; step < 5000; step++) {
+            int operation = random.nextInt(100);
+            if (operation < 35 && !handles.isEmpty()) {
+                manager.removeItem(handles.remove(random.nextInt(handles.size())));
+            } else if (operation < 65) {
+                handles.add(manager.addItem(randomItem(random)));
+            } else if (operation < 80 && !handles.isEmpty()) {
+                String name = randomName(random);
+                manager.editItem(handles.get(random.nextInt(handles.size())), copy -> ((NamedItem) copy).rename(name));
+            } else if (operation < 90) {
+                List<ItemStack> batch = new ArrayList<>();
+                for (int i = random.nextInt(20); i > 0; i--) {
+                    batch.add(randomItem(random));
+                }
+                handles.addAll(manager.addItems(batch));
+            } else if (operation < 91) {
+                manager.clearItems();
+                handles.clear();
+            }
+            if (step % 50 == 0) {
+                assertMatchesLinearScan(manager, index);
+            }
+        }
+        assertMatchesLinearScan(manager, index);
+    }
+
+    private static void assertMatchesLinearScan(ItemManager manager, SearchIndex index) {
+        List<ItemStack> items = manager.getItems();
+        for (String word : WORDS) {
+            List<Integer> exact = new ArrayList<>();
+            List<Integer> prefix = new ArrayList<>();
+            for (int i = 0; i < items.size(); i++) {
+                List<String> words = Arrays.asList(((NamedItem) items.get(i)).getName().toLowerCase().split(" "));
+                if (words.contains(word)) exact.add(i);
+                for (String candidate : words) {
+                    if (candidate.startsWith(word.substring(0, 2))) {
+                        prefix.add(i);
+                        break;
+                    }
+                }
+            }
+            assertArrayEquals(toArray(exact), index.positions(SearchType.NAME, word), word);
+            assertEquals(exact.isEmpty() ? -1 : exact.get(0), index.firstPosition(SearchType.NAME, word), word);
+            assertArrayEquals(toArray(prefix), index.positions(SearchType.PREFIX, word.substring(0, 2)), word);
+        }
+    }
+
+    private static NamedItem randomItem(Random random) {
+        return TestItems.named(randomName(random));
+    }
+
+    private static String randomName(Random random) {
+        return WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        int[] array = new int[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,63 @@
+package beta.com.paginationapi.search.index;
+
+import beta.com.paginationapi.search.SearchType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TokenTrieTest {
+
+    @Test
+    void mergesTheListsOfAllMatchingWordsInOrderWithoutDuplicates() {
+        TokenTrie trie = new TokenTrie();
+        trie.put("sword", SearchType.NAME, list(4, 9, 12));
+        trie.put("swift", SearchType.NAME, list(1, 9));
+        trie.put("sw", SearchType.LORE, list(0, 12, 30));
+        trie.put("stone", SearchType.NAME, list(2));
+
+        assertArrayEquals(new int[]{0, 1, 4, 9, 12, 30}, trie.positions("sw"));
+        assertEquals(0, trie.firstPosition("sw"));
+        assertArrayEquals(new int[]{2}, trie.positions("st"));
+        assertArrayEquals(new int[0], trie.positions("x"));
+    }
+
+    @Test
+    void handlesManyResultsForAShortPrefix() {
+        TokenTrie trie = new TokenTrie();
+        int words = 500;
+        for (int word = 0; word < words; word++) {
+            PositionList positions = new PositionList();
+            for (int id = word; id < 20_000; id += words) {
+                positions.add(id);
+            }
+            trie.put("a" + word, SearchType.NAME, positions);
+        }
+
+        int[] positions = trie.positions("a");
+
+        assertEquals(20_000, positions.length);
+        for (int i = 0; i < positions.length; i++) {
+            assertEquals(i, positions[i]);
+        }
+    }
+
+    @Test
+    void forgetsRemovedWords() {
+        TokenTrie trie = new TokenTrie();
+        trie.put("bow", SearchType.NAME, list(3));
+        trie.put("bowl", SearchType.NAME, list(5));
+
+        trie.remove("bowl", SearchType.NAME);
+
+        assertArrayEquals(new int[]{3}, trie.positions("bo"));
+    }
+
+    private static PositionList list(int... ids) {
+        PositionList positions = new PositionList();
+        for (int id : ids) {
+            positions.add(id);
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,134 @@
+package beta.com.paginationapi.sortmanager;
+
+import beta.com.paginationapi.sortmanager.utils.SortFilterManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class QueryTest {
+    private static final List<Integer> NUMBERS = Arrays.asList(9, 3, 7, 1, 8, 2, 6, 4, 5, 0);
+
+    @Test
+    void skipAfterLimitNarrowsTheLimitedWindow() {
+        assertEquals(Arrays.asList(7, 1, 8), Query.from(NUMBERS).limit(5).skip(2).toList());
+        assertEquals(Arrays.asList(7, 1, 8), Query.from(NUMBERS).skip(2).limit(3).toList());
+        assertEquals(Arrays.asList(), Query.from(NUMBERS).limit(2).skip(3).toList());
+    }
+
+    @Test
+    void sortAfterPageSortsOnlyThePage() {
+        List<Integer> result = Query.from(NUMBERS).page(2, 3).sorted(Comparator.naturalOrder()).toList();
+
+        assertEquals(Arrays.asList(1, 2, 8), result);
+    }
+
+    @Test
+    void pageAfterSortReadsThePageOfTheSortedList() {
+        List<Integer> result = Query.from(NUMBERS).sorted(Comparator.naturalOrder()).page(2, 3).toList();
+
+        assertEquals(Arrays.asList(3, 4, 5), result);
+    }
+
+    @Test
+    void filterAfterLimitOnlySeesTheWindow() {
+        List<Integer> result = Query.from(NUMBERS).limit(4).filter(n -> n % 2 == 1).toList();
+
+        assertEquals(Arrays.asList(9, 3, 7, 1), result);
+        assertEquals(Arrays.asList(3, 1), Query.from(NUMBERS).skip(1).limit(4).filter(n -> n < 5).toList());
+    }
+
+    @Test
+    void matchesRunningTheStagesOneByOne() {
+        Random random = new Random(11);
+        List<Comparator<Integer>> comparators = Arrays.asList(
+                Comparator.comparingInt(n -> n % 3),
+                Comparator.comparingInt(n -> n / 7),
+                Comparator.<Integer>naturalOrder().reversed());
+        List<Predicate<Integer>> filters = Arrays.asList(n -> n % 2 == 0, n -> n > 10, n -> n % 5 != 0);
+
+        for (int run = 0; run < 2000; run++) {
+            List<Integer> items = new ArrayList<>();
+            for (int i = random.nextInt(60); i > 0; i--) {
+                items.add(random.nextInt(40));
+            }
+            Query<Integer> query = Query.from(items);
+            Model model = new Model(items);
+            StringBuilder stages = new StringBuilder();
+            for (int stage = random.nextInt(6); stage > 0; stage--) {
+                int kind = random.nextInt(5);
+                if (kind == 0) {
+                    int index = random.nextInt(filters.size());
+                    query.filter(filters.get(index));
+                    model.filter(filters.get(index));
+                    stages.append(".filter(").append(index).append(')');
+                } else if (kind == 1) {
+                    int index = random.nextInt(comparators.size());
+                    query.sorted(comparators.get(index));
+                    model.sorted(comparators.get(index));
+                    stages.append(".sorted(").append(index).append(')');
+                } else if (kind == 2) {
+                    int count = random.nextInt(15);
+                    query.skip(count);
+                    model.skip(count);
+                    stages.append(".skip(").append(count).append(')');
+                } else if (kind == 3) {
+                    int count = random.nextInt(15);
+                    query.limit(count);
+                    model.limit(count);
+                    stages.append(".limit(").append(count).append(')');
+                } else {
+                    int page = 1 + random.nextInt(3);
+                    int size = 1 + random.nextInt(10);
+                    query.page(page, size);
+                    model.skip((page - 1) * size);
+                    model.limit(size);
+                    stages.append(".page(").append(page).append(", ").append(size).append(')');
+                }
+            }
+            assertEquals(model.items, query.toList(), items + " " + stages);
+        }
+    }
+
+    @Test
+    void laterSortIsPrimaryLikeConsecutiveSorts() {
+        Comparator<Integer> byParity = Comparator.comparingInt(n -> n % 2);
+        Comparator<Integer> natural = Comparator.naturalOrder();
+
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), Query.from(NUMBERS).sorted(byParity).sorted(natural).toList());
+        assertEquals(Arrays.asList(0, 2, 4, 6, 8, 1, 3, 5, 7, 9), Query.from(NUMBERS).sorted(natural).sorted(byParity).toList());
+    }
+
+    // Runs every stage right away through SortFilter and SortFilterManager, the calls a query stands for.
+    private static final class Model {
+        private final SortFilter<Integer> sortFilter = new SortFilter<>();
+        private final SortFilterManager<Integer> manager = new SortFilterManager<>();
+        private List<Integer> items;
+
+        private Model(List<Integer> items) {
+            this.items = new ArrayList<>(items);
+        }
+
+        private void filter(Predicate<Integer> predicate) {
+            items = sortFilter.filter(items, predicate);
+        }
+
+        private void sorted(Comparator<Integer> comparator) {
+            items = sortFilter.sort(items, comparator);
+        }
+
+        private void skip(int count) {
+            items = sortFilter.skip(items, count);
+        }
+
+        private void limit(int count) {
+            items = new ArrayList<>(manager.paginate(items, 0, Math.min(count, items.size())));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package beta.com.paginationapi.sortmanager;
+
+import beta.com.paginationapi.itemmanager.ItemHandle;
+import beta.com.paginationapi.itemmanager.ItemInterner;
+import beta.com.paginationapi.itemmanager.ItemManager;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SortedViewTest {
+    private static final Comparator<ItemStack> BY_AMOUNT = Comparator.comparingInt(ItemStack::getAmount);
+    private static final Material[] MATERIALS = {Material.STONE, Material.DIRT, Material.APPLE};
+
+    @Test
+    void removesTheRepeatedInstanceAtTheReportedPosition() {
+        ItemManager manager = new ItemManager(UUID.randomUUID());
+        ItemStack stone = new ItemStack(Material.STONE, 5);
+        ItemStack dirt = new ItemStack(Material.DIRT, 5);
+        manager.addItem(stone);
+        manager.addItem(dirt);
+        ItemHandle secondStone = manager.addItem(stone);
+        SortedView view = SortedView.register(manager, BY_AMOUNT);
+
+        manager.removeItem(secondStone);
+
+        List<ItemStack> sorted = view.toList();
+        assertEquals(2, sorted.size());
+        assertSame(stone, sorted.get(0));
+        assertSame(dirt, sorted.get(1));
+    }
+
+    @Test
+    void matchesAStableSortWithRepeatedInstances() {
+        followRandomChanges(new ItemManager(UUID.randomUUID()), new Random(1));
+    }
+
+    @Test
+    void matchesAStableSortWithInternedItems() {
+        followRandomChanges(new ItemManager(UUID.randomUUID(), new ItemInterner()), new Random(2));
+    }
+
+    @Test
+    void readsPagesInSortedOrder() {
+        ItemManager manager = new ItemManager(UUID.randomUUID());
+        for (int amount = 10; amount > 0; amount--) {
+            manager.addItem(new ItemStack(Material.STONE, amount));
+        }
+        SortedView view = SortedView.register(manager, BY_AMOUNT);
+
+        List<ItemStack> page = view.getPage(2, 4);
+
+        assertEquals(4, page.size());
+        assertEquals(5, page.get(0).getAmount());
+        assertEquals(8, page.get(3).getAmount());
+    }
+
+    private static void followRandomChanges(ItemManager manager, Random random) {
+        List<ItemStack> pool = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            pool.add(new ItemStack(MATERIALS[i % MATERIALS.length], 1 + i % 4));
+        }
+        List<ItemHandle> handles = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            handles.add(manager.addItem(pool.get(random.nextInt(pool.size()))));
+        }
+        SortedView view = SortedView.register(manager, BY_AMOUNT);
+
+        for (int step = 0; step < 3000; step++) {
+            int operation = random.nextInt(10);
+            if (operation < 4 && !handles.isEmpty()) {
+                manager.removeItem(handles.remove(random.nextInt(handles.size())));
+            } else if (operation < 8) {
+                handles.add(manager.addItem(pool.get(random.nextInt(pool.size()))));
+            } else if (!handles.isEmpty()) {
+                int amount = 1 + random.nextInt(4);
+                manager.editItem(handles.get(random.nextInt(handles.size())), copy -> copy.setAmount(amount));
+            }
+            if (step % 100 == 0) {
+                assertStableSort(manager, view);
+            }
+        }
+        assertStableSort(manager, view);
+    }
+
+    private static void assertStableSort(ItemManager manager, SortedView view) {
+        List<ItemStack> expected = new ArrayList<>(manager.getItems());
+        expected.sort(BY_AMOUNT);
+        List<ItemStack> actual = view.toList();
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), actual.get(i), "at " + i);
+        }
+    }
+}
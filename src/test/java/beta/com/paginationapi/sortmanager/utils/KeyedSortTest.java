@@ -0,0 +1,58 @@
+package beta.com.paginationapi.sortmanager.utils;
+
+import beta.com.paginationapi.sortmanager.SortKey;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class KeyedSortTest {
+
+    @Test
+    void matchesAStableComparatorSort() {
+        Random random = new Random(3);
+        List<int[]> items = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            items.add(new int[]{random.nextInt(20), random.nextInt(5), i});
+        }
+        SortKey<int[]> byFirst = SortKey.of(item -> item[0]);
+        SortKey<int[]> bySecondDescending = SortKey.<int[], Integer>of(item -> item[1]).reversed();
+
+        List<int[]> expected = new ArrayList<>(items);
+        expected.sort(Comparator.<int[]>comparingInt(item -> item[0]).thenComparing(Comparator.<int[]>comparingInt(item -> item[1]).reversed()));
+
+        assertSameOrder(expected, KeyedSort.sort(items, byFirst, bySecondDescending));
+        assertSameOrder(expected, KeyedSort.sort(items, Arrays.asList(byFirst, bySecondDescending)));
+    }
+
+    @Test
+    void extractsEveryKeyOncePerItem() {
+        AtomicInteger extractions = new AtomicInteger();
+        List<Integer> items = new ArrayList<>();
+        for (int i = 1000; i > 0; i--) {
+            items.add(i);
+        }
+
+        List<Integer> sorted = KeyedSort.sort(items, SortKey.of(item -> {
+            extractions.incrementAndGet();
+            return item;
+        }));
+
+        assertEquals(1000, extractions.get());
+        assertEquals(1, (int) sorted.get(0));
+    }
+
+    private static void assertSameOrder(List<int[]> expected, List<int[]> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), actual.get(i));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package beta.com.paginationapi.sortmanager.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrimitiveSortTest {
+    private static final int[] INT_EDGES = {Integer.MIN_VALUE, Integer.MIN_VALUE + 1, -256, -1, 0, 1, 255, 256, Integer.MAX_VALUE - 1, Integer.MAX_VALUE};
+    private static final long[] LONG_EDGES = {Long.MIN_VALUE, Long.MIN_VALUE + 1, Integer.MIN_VALUE, -1L, 0L, 1L, Integer.MAX_VALUE, 1L << 56, Long.MAX_VALUE - 1, Long.MAX_VALUE};
+    private static final double[] DOUBLE_EDGES = {Double.NEGATIVE_INFINITY, -Double.MAX_VALUE, -1.5, -Double.MIN_VALUE, -0.0, 0.0,
+            Double.MIN_VALUE, 1.5, Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NaN, Double.longBitsToDouble(0x7ff8000000000001L),
+            Double.longBitsToDouble(0xfff8000000000000L)};
+
+    @Test
+    void intKeysMatchIntegerCompareInBothDirections() {
+        Random random = new Random(5);
+        for (int run = 0; run < 50; run++) {
+            List<Item> items = new ArrayList<>();
+            for (int i = random.nextInt(300); i > 0; i--) {
+                int key = random.nextInt(4) == 0 ? INT_EDGES[random.nextInt(INT_EDGES.length)] : random.nextInt(40) - 20;
+                items.add(new Item(key, 0L, 0.0));
+            }
+            Comparator<Item> byKey = (a, b) -> Integer.compare(a.intKey, b.intKey);
+
+            assertSameOrder(stableSort(items, byKey), PrimitiveSort.sortByInt(items, item -> item.intKey, false));
+            assertSameOrder(stableSort(items, byKey.reversed()), PrimitiveSort.sortByInt(items, item -> item.intKey, true));
+        }
+    }
+
+    @Test
+    void longKeysMatchLongCompareInBothDirections() {
+        Random random = new Random(6);
+        for (int run = 0; run < 50; run++) {
+            List<Item> items = new ArrayList<>();
+            for (int i = random.nextInt(300); i > 0; i--) {
+                long key = random.nextInt(4) == 0 ? LONG_EDGES[random.nextInt(LONG_EDGES.length)] : random.nextInt(3) == 0 ? random.nextLong() : random.nextInt(40) - 20;
+                items.add(new Item(0, key, 0.0));
+            }
+            Comparator<Item> byKey = (a, b) -> Long.compare(a.longKey, b.longKey);
+
+            assertSameOrder(stableSort(items, byKey), PrimitiveSort.sortByLong(items, item -> item.longKey, false));
+            assertSameOrder(stableSort(items, byKey.reversed()), PrimitiveSort.sortByLong(items, item -> item.longKey, true));
+        }
+    }
+
+    @Test
+    void doubleKeysMatchDoubleCompareInBothDirections() {
+        Random random = new Random(7);
+        for (int run = 0; run < 50; run++) {
+            List<Item> items = new ArrayList<>();
+            for (int i = random.nextInt(300); i > 0; i--) {
+                double key = random.nextInt(3) == 0 ? DOUBLE_EDGES[random.nextInt(DOUBLE_EDGES.length)] : (random.nextInt(40) - 20) / 4.0;
+                items.add(new Item(0, 0L, key));
+            }
+            Comparator<Item> byKey = (a, b) -> Double.compare(a.doubleKey, b.doubleKey);
+
+            assertSameOrder(stableSort(items, byKey), PrimitiveSort.sortByDouble(items, item -> item.doubleKey, false));
+            assertSameOrder(stableSort(items, byKey.reversed()), PrimitiveSort.sortByDouble(items, item -> item.doubleKey, true));
+        }
+    }
+
+    @Test
+    void ordersNegativeZeroBeforeZeroAndNaNLast() {
+        List<Item> items = new ArrayList<>();
+        items.add(new Item(0, 0L, Double.NaN));
+        items.add(new Item(0, 0L, 0.0));
+        items.add(new Item(0, 0L, Double.POSITIVE_INFINITY));
+        items.add(new Item(0, 0L, -0.0));
+        items.add(new Item(0, 0L, Double.NEGATIVE_INFINITY));
+
+        List<Item> sorted = PrimitiveSort.sortByDouble(items, item -> item.doubleKey, false);
+
+        assertEquals(Double.NEGATIVE_INFINITY, sorted.get(0).doubleKey);
+        assertEquals(Double.doubleToLongBits(-0.0), Double.doubleToLongBits(sorted.get(1).doubleKey));
+        assertEquals(Double.doubleToLongBits(0.0), Double.doubleToLongBits(sorted.get(2).doubleKey));
+        assertEquals(Double.POSITIVE_INFINITY, sorted.get(3).doubleKey);
+        assertTrue(Double.isNaN(sorted.get(4).doubleKey));
+    }
+
+    @Test
+    void sortsEmptyAndSingleElementLists() {
+        List<Item> empty = Collections.emptyList();
+        assertTrue(PrimitiveSort.sortByInt(empty, item -> item.intKey, false).isEmpty());
+        assertTrue(PrimitiveSort.sortByLong(empty, item -> item.longKey, true).isEmpty());
+        assertTrue(PrimitiveSort.sortByDouble(empty, item -> item.doubleKey, false).isEmpty());
+
+        List<Item> single = Collections.singletonList(new Item(Integer.MIN_VALUE, Long.MAX_VALUE, Double.NaN));
+        assertSameOrder(single, PrimitiveSort.sortByInt(single, item -> item.intKey, true));
+        assertSameOrder(single, PrimitiveSort.sortByLong(single, item -> item.longKey, false));
+        assertSameOrder(single, PrimitiveSort.sortByDouble(single, item -> item.doubleKey, true));
+    }
+
+    @Test
+    void equalKeysKeepTheirInputOrder() {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            items.add(new Item(-7, Long.MIN_VALUE, -0.0));
+        }
+
+        // Every digit is the same for all items, so every pass is skipped and the input order must come back unchanged.
+        assertSameOrder(items, PrimitiveSort.sortByInt(items, item -> item.intKey, false));
+        assertSameOrder(items, PrimitiveSort.sortByInt(items, item -> item.intKey, true));
+        assertSameOrder(items, PrimitiveSort.sortByLong(items, item -> item.longKey, true));
+        assertSameOrder(items, PrimitiveSort.sortByDouble(items, item -> item.doubleKey, false));
+    }
+
+    @Test
+    void sortsKeysThatDifferOnlyInOneHighDigit() {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            int key = ((i * 37) % 16 - 8) << 24;
+            items.add(new Item(key, (long) key << 32, 0.0));
+        }
+
+        assertSameOrder(stableSort(items, (a, b) -> Integer.compare(a.intKey, b.intKey)), PrimitiveSort.sortByInt(items, item -> item.intKey, false));
+        assertSameOrder(stableSort(items, (a, b) -> Long.compare(b.longKey, a.longKey)), PrimitiveSort.sortByLong(items, item -> item.longKey, true));
+    }
+
+    private static List<Item> stableSort(List<Item> items, Comparator<Item> comparator) {
+        List<Item> sorted = new ArrayList<>(items);
+        sorted.sort(comparator);
+        return sorted;
+    }
+
+    private static void assertSameOrder(List<Item> expected, List<Item> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), actual.get(i), "position " + i);
+        }
+    }
+
+    private static final class Item {
+        private final int intKey;
+        private final long longKey;
+        private final double doubleKey;
+
+        private Item(int intKey, long longKey, double doubleKey) {
+            this.intKey = intKey;
+            this.longKey = longKey;
+            this.doubleKey = doubleKey;
+        }
+    }
+}